@@ -0,0 +1,13 @@
+package com.example.unittesting.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveUnitTestingApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveUnitTestingApplication.class, args);
+	}
+
+}
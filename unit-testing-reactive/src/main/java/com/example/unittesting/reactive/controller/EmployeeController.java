@@ -0,0 +1,127 @@
+package com.example.unittesting.reactive.controller;
+
+import com.example.unittesting.reactive.dto.EmployeeBatchResult;
+import com.example.unittesting.reactive.dto.EmployeeBulkDeleteResult;
+import com.example.unittesting.reactive.dto.EmployeePage;
+import com.example.unittesting.reactive.dto.EmployeePatch;
+import com.example.unittesting.reactive.dto.EmployeeSlice;
+import com.example.unittesting.reactive.dto.EmployeeSummary;
+import com.example.unittesting.reactive.model.Employee;
+import com.example.unittesting.reactive.service.EmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The servlet module's {@code /api/employees} contract on WebFlux. {@code Flux} responses are written as the
+ * database produces rows and request more only as fast as the client reads: a JSON array by default, or one
+ * object per line with {@code Accept: application/x-ndjson}.
+ */
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+public class EmployeeController {
+
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    private final EmployeeService employeeService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Employee> createEmployee(@RequestBody Employee employee) {
+        return employeeService.saveEmployee(employee);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Flux<EmployeeBatchResult>>> createEmployees(@RequestBody List<Employee> employees) {
+        if (employees.size() > MAX_BATCH_SIZE) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        return Mono.just(ResponseEntity.ok(employeeService.saveEmployees(employees)));
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<EmployeeSummary> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @GetMapping(params = "limit")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<EmployeePage> getEmployeesPage(@RequestParam(name = "after", defaultValue = "0") long after,
+                                               @RequestParam("limit") int limit) {
+        return employeeService.getEmployeesAfter(after, limit);
+    }
+
+    /**
+     * Index-backed name search. {@code lastName} is required because it leads the (last_name, first_name) index;
+     * with {@code prefix=true} the last field given (firstName if present, otherwise lastName) is matched as a prefix.
+     */
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<EmployeeSlice> searchEmployees(@RequestParam("lastName") String lastName,
+                                               @RequestParam(name = "firstName", required = false) String firstName,
+                                               @RequestParam(name = "prefix", defaultValue = "false") boolean prefix,
+                                               @RequestParam(name = "page", defaultValue = "0") int page,
+                                               @RequestParam(name = "size", defaultValue = "20") int size) {
+        return employeeService.searchEmployees(lastName, firstName, prefix, page, size);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> exportEmployees() {
+        return employeeService.exportEmployees();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployee(@PathVariable("id") long id) {
+        return employeeService.getEmployeeById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> updateEmployee(@PathVariable("id") long id, @RequestBody Employee employee) {
+        return employeeService.getEmployeeById(id)
+                .flatMap(savedEmployee -> {
+                    savedEmployee.setFirstName(employee.getFirstName());
+                    savedEmployee.setLastName(employee.getLastName());
+                    savedEmployee.setEmail(employee.getEmail());
+                    return employeeService.updateEmployee(savedEmployee);
+                })
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Void>> patchEmployee(@PathVariable("id") long id, @RequestBody EmployeePatch patch) {
+        return employeeService.patchEmployee(id, patch)
+                .map(patched -> patched
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable("id") long employeeId) {
+        return employeeService.deleteEmployee(employeeId)
+                .map(deleted -> deleted
+                        ? ResponseEntity.ok("Employee deleted successfully")
+                        : ResponseEntity.notFound().<String>build());
+    }
+
+    @DeleteMapping(params = "ids")
+    public Mono<ResponseEntity<EmployeeBulkDeleteResult>> deleteEmployeesByIds(@RequestParam("ids") List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        return employeeService.deleteEmployees(ids)
+                .map(deleted -> ResponseEntity.ok(new EmployeeBulkDeleteResult(ids.size(), deleted)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.unittesting.reactive.dto;
+
+import com.example.unittesting.reactive.model.Employee;
+
+/**
+ * Outcome of one entry of a batch create, reported in request order.
+ */
+public record EmployeeBatchResult(int index, String email, Status status, Long id) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static EmployeeBatchResult created(int index, Employee employee) {
+        return new EmployeeBatchResult(index, employee.getEmail(), Status.CREATED, employee.getId());
+    }
+
+    public static EmployeeBatchResult duplicate(int index, Employee employee) {
+        return new EmployeeBatchResult(index, employee.getEmail(), Status.DUPLICATE, null);
+    }
+
+    public static EmployeeBatchResult invalid(int index, Employee employee) {
+        return new EmployeeBatchResult(index, employee.getEmail(), Status.INVALID, null);
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.unittesting.reactive.dto;
+
+public record EmployeeBulkDeleteResult(int requested, int deleted) {
+}
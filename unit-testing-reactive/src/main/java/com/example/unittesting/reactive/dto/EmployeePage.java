@@ -0,0 +1,10 @@
+package com.example.unittesting.reactive.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of employees. {@code nextCursor} is the id to pass as {@code after}
+ * for the following page, or {@code null} when there are no more rows.
+ */
+public record EmployeePage(List<EmployeeSummary> content, Long nextCursor) {
+}
@@ -0,0 +1,7 @@
+package com.example.unittesting.reactive.dto;
+
+/**
+ * Partial update of an employee; {@code null} fields are left unchanged.
+ */
+public record EmployeePatch(String firstName, String lastName, String email) {
+}
@@ -0,0 +1,13 @@
+package com.example.unittesting.reactive.dto;
+
+import com.example.unittesting.reactive.model.Employee;
+
+/**
+ * List and search view of an employee; the same JSON shape as the servlet API's list responses.
+ */
+public record EmployeeSummary(long id, String firstName, String lastName, String email) {
+
+    public static EmployeeSummary of(Employee employee) {
+        return new EmployeeSummary(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.unittesting.reactive.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@Table("employee")
+@ToString
+public class Employee {
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employee_email";
+
+    // null until inserted; the database assigns it (see schema.sql)
+    @Id
+    private Long id;
+
+    @Column("first_name")
+    private String firstName;
+
+    @Column("last_name")
+    private String lastName;
+
+    @Column("email")
+    private String email;
+
+    @Version
+    @Column("version")
+    private Long version;
+}
@@ -0,0 +1,73 @@
+package com.example.unittesting.reactive.repository;
+
+import com.example.unittesting.reactive.model.Employee;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * R2DBC counterpart of the servlet module's {@code EmployeeRepository}. R2DBC has no JPQL, so every declared
+ * query is SQL against the {@code employee} table.
+ */
+public interface EmployeeRepository extends R2dbcRepository<Employee, Long> {
+    Mono<Employee> findByEmail(String email);
+
+    @Query("select email from employee where email in (:emails)")
+    Flux<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // keyset pagination: seeks on the primary key index instead of scanning an OFFSET
+    @Query("select * from employee where id > :id order by id limit :limit")
+    Flux<Employee> findByIdGreaterThanOrderByIdAsc(@Param("id") long id, @Param("limit") int limit);
+
+    // single UPDATE; null parameters keep the current column value
+    @Modifying
+    @Query("update employee set first_name = coalesce(:firstName, first_name), " +
+            "last_name = coalesce(:lastName, last_name), email = coalesce(:email, email), " +
+            "version = version + 1 where id = :id")
+    Mono<Integer> patchById(@Param("id") long id, @Param("firstName") String firstName,
+                            @Param("lastName") String lastName, @Param("email") String email);
+
+    @Modifying
+    @Query("delete from employee where id = :id")
+    Mono<Integer> deleteEmployeeById(@Param("id") long id);
+
+    @Modifying
+    @Query("delete from employee where id in (:ids)")
+    Mono<Integer> deleteEmployeesByIdIn(@Param("ids") Collection<Long> ids);
+
+    Flux<Employee> findAllByOrderByIdAsc();
+
+    Flux<Employee> findByFirstNameAndLastName(String firstName, String lastName);
+
+    @Query("select * from employee e where e.first_name = :firstName and e.last_name = :lastName")
+    Flux<Employee> findByNativeSQLNamedParam(@Param("firstName") String firstName, @Param("lastName") String lastName);
+
+    // name searches below all lead with last_name so they range-scan idx_employee_last_first and are ordered
+    // like it; prefixes are passed already escaped and suffixed with '%'. limit is one more than the page size
+    // so the caller can tell whether another page exists
+    @Query("select * from employee where last_name = :lastName " +
+            "order by last_name, first_name, id limit :limit offset :offset")
+    Flux<Employee> findByLastName(@Param("lastName") String lastName,
+                                  @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query("select * from employee where last_name like :lastNamePattern " +
+            "order by last_name, first_name, id limit :limit offset :offset")
+    Flux<Employee> findByLastNameLike(@Param("lastNamePattern") String lastNamePattern,
+                                      @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query("select * from employee where last_name = :lastName and first_name = :firstName " +
+            "order by last_name, first_name, id limit :limit offset :offset")
+    Flux<Employee> findByLastNameAndFirstName(@Param("lastName") String lastName, @Param("firstName") String firstName,
+                                              @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query("select * from employee where last_name = :lastName and first_name like :firstNamePattern " +
+            "order by last_name, first_name, id limit :limit offset :offset")
+    Flux<Employee> findByLastNameAndFirstNameLike(@Param("lastName") String lastName,
+                                                  @Param("firstNamePattern") String firstNamePattern,
+                                                  @Param("limit") int limit, @Param("offset") long offset);
+}
@@ -0,0 +1,36 @@
+package com.example.unittesting.reactive.service;
+
+import com.example.unittesting.reactive.dto.EmployeeBatchResult;
+import com.example.unittesting.reactive.dto.EmployeePage;
+import com.example.unittesting.reactive.dto.EmployeePatch;
+import com.example.unittesting.reactive.dto.EmployeeSlice;
+import com.example.unittesting.reactive.dto.EmployeeSummary;
+import com.example.unittesting.reactive.model.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface EmployeeService {
+    Mono<Employee> saveEmployee(Employee employee);
+
+    Flux<EmployeeBatchResult> saveEmployees(List<Employee> employees);
+
+    Flux<EmployeeSummary> getAllEmployees();
+
+    Mono<EmployeePage> getEmployeesAfter(long afterId, int limit);
+
+    Flux<Employee> exportEmployees();
+
+    Mono<Employee> getEmployeeById(long id);
+
+    Mono<EmployeeSlice> searchEmployees(String lastName, String firstName, boolean prefix, int page, int size);
+
+    Mono<Employee> updateEmployee(Employee employee);
+
+    Mono<Boolean> patchEmployee(long id, EmployeePatch patch);
+
+    Mono<Boolean> deleteEmployee(long id);
+
+    Mono<Integer> deleteEmployees(List<Long> ids);
+}
@@ -0,0 +1,198 @@
+package com.example.unittesting.reactive.service;
+
+import com.example.unittesting.reactive.dto.EmployeeBatchResult;
+import com.example.unittesting.reactive.dto.EmployeePage;
+import com.example.unittesting.reactive.dto.EmployeePatch;
+import com.example.unittesting.reactive.dto.EmployeeSlice;
+import com.example.unittesting.reactive.dto.EmployeeSummary;
+import com.example.unittesting.reactive.exception.DuplicateResourceException;
+import com.example.unittesting.reactive.model.Employee;
+import com.example.unittesting.reactive.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.relational.core.dialect.Escaper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeServiceImpl implements EmployeeService {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    static final int MAX_IN_LIST_SIZE = 1000;
+
+    private final EmployeeRepository employeeRepository;
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        // the unique index decides, in the same round trip as the insert
+        return employeeRepository.save(employee)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> isDuplicateEmail(e) ? duplicateEmail(employee.getEmail(), e) : e);
+    }
+
+    private static DuplicateResourceException duplicateEmail(String email, Throwable cause) {
+        return new DuplicateResourceException("Employee with email " + email + " already exists", cause);
+    }
+
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        // R2DBC drivers report constraint names only in the message
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().toLowerCase(Locale.ROOT).contains(Employee.EMAIL_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @Transactional
+    public Flux<EmployeeBatchResult> saveEmployees(List<Employee> employees) {
+        return findExistingEmails(employees).flatMapMany(takenEmails -> {
+            List<EmployeeBatchResult> rejected = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            List<Employee> creatable = new ArrayList<>();
+            for (int index = 0; index < employees.size(); index++) {
+                Employee employee = employees.get(index);
+                if (!isComplete(employee)) {
+                    rejected.add(EmployeeBatchResult.invalid(index, employee));
+                } else if (!takenEmails.add(employee.getEmail())) {
+                    rejected.add(EmployeeBatchResult.duplicate(index, employee));
+                } else {
+                    indexes.add(index);
+                    creatable.add(employee);
+                }
+            }
+
+            // saveAll pipelines the inserts on one connection and emits in input order
+            return employeeRepository.saveAll(creatable)
+                    .index()
+                    .map(saved -> EmployeeBatchResult.created(indexes.get(saved.getT1().intValue()), saved.getT2()))
+                    .concatWith(Flux.fromIterable(rejected))
+                    .collectSortedList((left, right) -> Integer.compare(left.index(), right.index()))
+                    .flatMapMany(Flux::fromIterable);
+        });
+    }
+
+    private Mono<Set<String>> findExistingEmails(List<Employee> employees) {
+        List<String> emails = employees.stream()
+                .map(Employee::getEmail)
+                .filter(email -> email != null && !email.isBlank())
+                .distinct()
+                .toList();
+
+        return Flux.range(0, (emails.size() + MAX_IN_LIST_SIZE - 1) / MAX_IN_LIST_SIZE)
+                .concatMap(chunk -> employeeRepository.findExistingEmails(
+                        emails.subList(chunk * MAX_IN_LIST_SIZE, Math.min((chunk + 1) * MAX_IN_LIST_SIZE, emails.size()))))
+                .collect(HashSet::new, Set::add);
+    }
+
+    private static boolean isComplete(Employee employee) {
+        return employee.getFirstName() != null && !employee.getFirstName().isBlank()
+                && employee.getLastName() != null && !employee.getLastName().isBlank()
+                && employee.getEmail() != null && !employee.getEmail().isBlank();
+    }
+
+    @Override
+    public Flux<EmployeeSummary> getAllEmployees() {
+        return employeeRepository.findAll().map(EmployeeSummary::of);
+    }
+
+    @Override
+    public Mono<EmployeePage> getEmployeesAfter(long afterId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // fetch one extra row to find out whether another page exists without a count query
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageSize + 1)
+                .map(EmployeeSummary::of)
+                .collectList()
+                .map(employees -> {
+                    if (employees.size() <= pageSize) {
+                        return new EmployeePage(employees, null);
+                    }
+
+                    List<EmployeeSummary> content = employees.subList(0, pageSize);
+                    return new EmployeePage(content, content.get(pageSize - 1).id());
+                });
+    }
+
+    @Override
+    public Flux<Employee> exportEmployees() {
+        // rows are pulled from the driver as the subscriber requests them, so memory stays flat
+        return employeeRepository.findAllByOrderByIdAsc();
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(long id) {
+        return employeeRepository.findById(id);
+    }
+
+    @Override
+    public Mono<EmployeeSlice> searchEmployees(String lastName, String firstName, boolean prefix, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long offset = (long) pageNumber * pageSize;
+
+        Flux<Employee> employees;
+        if (firstName == null) {
+            employees = prefix
+                    ? employeeRepository.findByLastNameLike(startsWith(lastName), pageSize + 1, offset)
+                    : employeeRepository.findByLastName(lastName, pageSize + 1, offset);
+        } else {
+            employees = prefix
+                    ? employeeRepository.findByLastNameAndFirstNameLike(lastName, startsWith(firstName), pageSize + 1, offset)
+                    : employeeRepository.findByLastNameAndFirstName(lastName, firstName, pageSize + 1, offset);
+        }
+
+        return employees.map(EmployeeSummary::of)
+                .collectList()
+                .map(content -> content.size() > pageSize
+                        ? new EmployeeSlice(content.subList(0, pageSize), pageNumber, pageSize, true)
+                        : new EmployeeSlice(content, pageNumber, pageSize, false));
+    }
+
+    // "like 'prefix%'" with the prefix's own wildcards escaped, which the index can still serve
+    private static String startsWith(String prefix) {
+        return Escaper.DEFAULT.escape(prefix) + "%";
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(Employee employee) {
+        return employeeRepository.save(employee)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> isDuplicateEmail(e) ? duplicateEmail(employee.getEmail(), e) : e);
+    }
+
+    @Override
+    public Mono<Boolean> patchEmployee(long id, EmployeePatch patch) {
+        return employeeRepository.patchById(id, patch.firstName(), patch.lastName(), patch.email())
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> isDuplicateEmail(e) ? duplicateEmail(patch.email(), e) : e)
+                .map(updatedRows -> updatedRows > 0);
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(long id) {
+        return employeeRepository.deleteEmployeeById(id).map(deletedRows -> deletedRows > 0);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Integer> deleteEmployees(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+
+        return Flux.range(0, (distinctIds.size() + MAX_IN_LIST_SIZE - 1) / MAX_IN_LIST_SIZE)
+                .concatMap(chunk -> employeeRepository.deleteEmployeesByIdIn(
+                        distinctIds.subList(chunk * MAX_IN_LIST_SIZE, Math.min((chunk + 1) * MAX_IN_LIST_SIZE, distinctIds.size()))))
+                .reduce(0, Integer::sum);
+    }
+}
@@ -0,0 +1,10 @@
+create table if not exists employee (
+    id bigint auto_increment primary key,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    email varchar(255) not null,
+    version bigint not null,
+    constraint uk_employee_email unique (email)
+);
+
+create index if not exists idx_employee_last_first on employee (last_name, first_name);
@@ -0,0 +1,13 @@
+package com.example.unittesting.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ReactiveUnitTestingApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.example.unittesting.reactive.controller;
+
+import com.example.unittesting.reactive.dto.EmployeePatch;
+import com.example.unittesting.reactive.dto.EmployeeSummary;
+import com.example.unittesting.reactive.exception.DuplicateResourceException;
+import com.example.unittesting.reactive.model.Employee;
+import com.example.unittesting.reactive.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@WebFluxTest(controllers = EmployeeController.class)
+public class EmployeeControllerTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    //unit test for create employee controller
+    @DisplayName("unit test for create employee controller")
+    @Test
+    public void givenEmployee_whenCreateEmployee_thenReturnSavedEmployee() {
+        //given - precondition
+        Employee employee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build();
+
+        BDDMockito.given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willAnswer(invocationOnMock -> Mono.just(((Employee) invocationOnMock.getArgument(0)).toBuilder().id(1L).version(0L).build()));
+
+        //when - action or the behaviour that we are going to test
+        webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange()
+                //then verify the output
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.email").isEqualTo(employee.getEmail());
+    }
+
+    //unit test for create employee controller (duplicate email)
+    @DisplayName("unit test for create employee controller (duplicate email)")
+    @Test
+    public void givenExistingEmail_whenCreateEmployee_thenReturnConflict() {
+        //given - precondition
+        BDDMockito.given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willReturn(Mono.error(new DuplicateResourceException("Employee with email john.doe@example.com already exists")));
+
+        //when - action or the behaviour that we are going to test
+        webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Employee.builder().firstName("John").lastName("Doe").email("john.doe@example.com").build())
+                .exchange()
+                //then verify the output
+                .expectStatus().isEqualTo(409);
+    }
+
+    //unit test for getAllEmployees rest api streamed as ndjson
+    @DisplayName("unit test for getAllEmployees rest api streamed as ndjson")
+    @Test
+    public void givenListOfEmployees_whenGetAllEmployeesAsNdjson_thenStreamOneEmployeePerLine() {
+        //given - precondition
+        BDDMockito.given(employeeService.getAllEmployees()).willReturn(Flux.just(
+                new EmployeeSummary(1L, "John", "Doe", "john.doe@example.com"),
+                new EmployeeSummary(2L, "Jane", "Doe", "jane.doe@example.com")));
+
+        //when - action or the behaviour that we are going to test
+        List<EmployeeSummary> employees = webTestClient.get().uri("/api/employees")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                //then verify the output
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(EmployeeSummary.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        org.assertj.core.api.Assertions.assertThat(employees).extracting(EmployeeSummary::id).containsExactly(1L, 2L);
+    }
+
+    //unit test for getEmployeeById rest api (negative scenario)
+    @DisplayName("unit test for getEmployeeById rest api (negative scenario)")
+    @Test
+    public void givenInvalidEmployeeId_whenGetEmployeeById_thenReturnNotFound() {
+        //given - precondition
+        BDDMockito.given(employeeService.getEmployeeById(1L)).willReturn(Mono.empty());
+
+        //when - action or the behaviour that we are going to test
+        webTestClient.get().uri("/api/employees/{id}", 1L)
+                .exchange()
+                //then verify the output
+                .expectStatus().isNotFound();
+    }
+
+    //unit test for patchEmployee rest api (positive scenario)
+    @DisplayName("unit test for patchEmployee rest api (positive scenario)")
+    @Test
+    public void givenEmployeePatch_whenPatchEmployee_thenReturnNoContent() {
+        //given - precondition
+        EmployeePatch patch = new EmployeePatch(null, null, "john1.doe1@example.com");
+        BDDMockito.given(employeeService.patchEmployee(1L, patch)).willReturn(Mono.just(true));
+
+        //when - action or the behaviour that we are going to test
+        webTestClient.patch().uri("/api/employees/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(patch)
+                .exchange()
+                //then verify the output
+                .expectStatus().isNoContent();
+    }
+
+    //unit test for bulk delete rest api
+    @DisplayName("unit test for bulk delete rest api")
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount() {
+        //given - precondition
+        BDDMockito.given(employeeService.deleteEmployees(List.of(1L, 2L, 3L))).willReturn(Mono.just(2));
+
+        //when - action or the behaviour that we are going to test
+        webTestClient.delete().uri("/api/employees?ids=1,2,3")
+                .exchange()
+                //then verify the output
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.requested").isEqualTo(3)
+                .jsonPath("$.deleted").isEqualTo(2);
+    }
+}
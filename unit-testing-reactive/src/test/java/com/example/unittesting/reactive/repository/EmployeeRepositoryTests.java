@@ -0,0 +1,175 @@
+package com.example.unittesting.reactive.repository;
+
+import com.example.unittesting.reactive.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+@DataR2dbcTest
+public class EmployeeRepositoryTests {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        // R2DBC tests are not rolled back, so start every test from an empty table
+        employeeRepository.deleteAll().block();
+        employee = Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Ramesh")
+                .email("ramesh@gmail.com")
+                .build();
+    }
+
+    // unit test for save employee operation
+    @DisplayName("unit test for save employee operation")
+    @Test
+    void givenEmployeeObject_whenSave_thenReturnSavedEmployee() {
+        // given - precondition or setup
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeRepository.save(employee))
+                //then - verify the output
+                .assertNext(savedEmployee -> {
+                    org.assertj.core.api.Assertions.assertThat(savedEmployee.getId()).isNotNull();
+                    org.assertj.core.api.Assertions.assertThat(savedEmployee.getVersion()).isZero();
+                })
+                .verifyComplete();
+    }
+
+    // unit test for saving a duplicate email
+    @DisplayName("unit test for saving a duplicate email")
+    @Test
+    void givenExistingEmail_whenSave_thenThrowDataIntegrityViolation() {
+        // given - precondition or setup
+        employeeRepository.save(employee).block();
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeRepository.save(Employee.builder()
+                        .firstName("Other")
+                        .lastName("Other")
+                        .email(employee.getEmail())
+                        .build()))
+                //then - verify the output
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
+    // unit test for get employee by email operation
+    @DisplayName("unit test for get employee by email operation")
+    @Test
+    void givenEmployeeEmail_whenFindByEmail_thenReturnEmployee() {
+        // given - precondition or setup
+        employeeRepository.save(employee).block();
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeRepository.findByEmail(employee.getEmail()))
+                //then - verify the output
+                .expectNextMatches(employeeDB -> employeeDB.getFirstName().equals("Ramesh"))
+                .verifyComplete();
+    }
+
+    // unit test for keyset pagination and existing email lookup
+    @DisplayName("unit test for keyset pagination and existing email lookup")
+    @Test
+    void givenEmployees_whenFindAfterIdAndExistingEmails_thenReturnMatchingRows() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder().firstName("Suresh").lastName("Suresh").email("suresh@gmail.com").build();
+        Employee employee3 = Employee.builder().firstName("Mahesh").lastName("Mahesh").email("mahesh@gmail.com").build();
+        employeeRepository.saveAll(List.of(employee, employee2, employee3)).blockLast();
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeRepository.findByIdGreaterThanOrderByIdAsc(employee.getId(), 1))
+                //then - verify the output
+                .expectNextMatches(employeeDB -> employeeDB.getId().equals(employee2.getId()))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findExistingEmails(List.of("suresh@gmail.com", "nobody@gmail.com")))
+                .expectNext("suresh@gmail.com")
+                .verifyComplete();
+    }
+
+    // unit test for name queries
+    @DisplayName("unit test for name queries")
+    @Test
+    void givenFirstNameAndLastName_whenFindByName_thenReturnEmployee() {
+        // given - precondition or setup
+        employeeRepository.save(employee).block();
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeRepository.findByFirstNameAndLastName("Ramesh", "Ramesh"))
+                //then - verify the output
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findByNativeSQLNamedParam("Ramesh", "Ramesh"))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    // unit test for last name prefix search
+    @DisplayName("unit test for last name prefix search")
+    @Test
+    void givenLastNamePattern_whenFindByLastNameLike_thenReturnOrderedPage() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder().firstName("Arun").lastName("Ramanathan").email("arun@gmail.com").build();
+        Employee employee3 = Employee.builder().firstName("Percent").lastName("Ra%").email("percent@gmail.com").build();
+        employeeRepository.saveAll(List.of(employee, employee2, employee3)).blockLast();
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeRepository.findByLastNameLike("Ram%", 2, 0))
+                //then - verify the output
+                .expectNextMatches(employeeDB -> employeeDB.getLastName().equals("Ramanathan"))
+                .expectNextMatches(employeeDB -> employeeDB.getLastName().equals("Ramesh"))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findByLastNameLike("Ra\\%%", 10, 0))
+                .expectNextMatches(employeeDB -> employeeDB.getLastName().equals("Ra%"))
+                .verifyComplete();
+    }
+
+    // unit test for partial update operation
+    @DisplayName("unit test for partial update operation")
+    @Test
+    void givenEmployeeObject_whenPatchById_thenUpdateOnlySuppliedColumnsAndBumpVersion() {
+        // given - precondition or setup
+        employeeRepository.save(employee).block();
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeRepository.patchById(employee.getId(), null, null, "updated@gmail.com"))
+                .expectNext(1)
+                .verifyComplete();
+
+        //then - verify the output
+        StepVerifier.create(employeeRepository.findById(employee.getId()))
+                .expectNextMatches(employeeDB -> employeeDB.getEmail().equals("updated@gmail.com")
+                        && employeeDB.getFirstName().equals("Ramesh")
+                        && employeeDB.getVersion() == 1L)
+                .verifyComplete();
+    }
+
+    // unit test for delete operations
+    @DisplayName("unit test for delete operations")
+    @Test
+    void givenEmployees_whenDeleteByIds_thenReturnDeletedCount() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder().firstName("Suresh").lastName("Suresh").email("suresh@gmail.com").build();
+        employeeRepository.saveAll(List.of(employee, employee2)).blockLast();
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeRepository.deleteEmployeesByIdIn(List.of(employee.getId(), employee2.getId(), 9_999L)))
+                .expectNext(2)
+                .verifyComplete();
+
+        //then - verify the output
+        StepVerifier.create(employeeRepository.deleteEmployeeById(employee.getId()))
+                .expectNext(0)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.unittesting.reactive.service;
+
+import com.example.unittesting.reactive.dto.EmployeeBatchResult;
+import com.example.unittesting.reactive.dto.EmployeePatch;
+import com.example.unittesting.reactive.exception.DuplicateResourceException;
+import com.example.unittesting.reactive.model.Employee;
+import com.example.unittesting.reactive.repository.EmployeeRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeServiceImpl employeeService;
+
+    //unit test for saveEmployee method -> duplicate email
+    @DisplayName("unit test for saveEmployee method which throws exception")
+    @Test
+    void givenExistingEmail_whenSaveEmployee_thenThrowsException() {
+        //given - precondition
+        Employee employee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe.com")
+                .build();
+
+        BDDMockito.given(employeeRepository.save(employee)).willReturn(Mono.error(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_EMPLOYEE_EMAIL_INDEX_7 ON PUBLIC.EMPLOYEE(EMAIL)\"")));
+
+        //when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeService.saveEmployee(employee))
+                //then verify the output
+                .expectError(DuplicateResourceException.class)
+                .verify();
+    }
+
+    // unit test for saveEmployees method
+    @DisplayName("unit test for saveEmployees method")
+    @Test
+    void givenMixedBatch_whenSaveEmployees_thenReportEveryEntryInRequestOrder() {
+        // given - precondition or setup
+        Employee existingEmployee = Employee.builder().firstName("Jane").lastName("Doe").email("jane@doe.com").build();
+        Employee incompleteEmployee = Employee.builder().firstName("Jim").email("jim@doe.com").build();
+        Employee newEmployee = Employee.builder().firstName("John").lastName("Doe").email("john@doe.com").build();
+
+        BDDMockito.given(employeeRepository.findExistingEmails(ArgumentMatchers.anyCollection()))
+                .willReturn(Flux.just("jane@doe.com"));
+        BDDMockito.given(employeeRepository.saveAll(List.of(newEmployee)))
+                .willReturn(Flux.just(newEmployee.toBuilder().id(7L).build()));
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeService.saveEmployees(List.of(existingEmployee, incompleteEmployee, newEmployee)))
+                //then - verify the output
+                .expectNext(new EmployeeBatchResult(0, "jane@doe.com", EmployeeBatchResult.Status.DUPLICATE, null))
+                .expectNext(new EmployeeBatchResult(1, "jim@doe.com", EmployeeBatchResult.Status.INVALID, null))
+                .expectNext(new EmployeeBatchResult(2, "john@doe.com", EmployeeBatchResult.Status.CREATED, 7L))
+                .verifyComplete();
+    }
+
+    // unit test for getEmployeesAfter method
+    @DisplayName("unit test for getEmployeesAfter method")
+    @Test
+    void givenMoreRowsThanLimit_whenGetEmployeesAfter_thenReturnPageWithNextCursor() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder().id(5L).firstName("John").lastName("Doe").email("john@doe.com").build();
+        Employee employee2 = Employee.builder().id(6L).firstName("Jane").lastName("Doe").email("jane@doe.com").build();
+        Employee employee3 = Employee.builder().id(7L).firstName("Jim").lastName("Doe").email("jim@doe.com").build();
+
+        BDDMockito.given(employeeRepository.findByIdGreaterThanOrderByIdAsc(4L, 3))
+                .willReturn(Flux.just(employee1, employee2, employee3));
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeService.getEmployeesAfter(4L, 2))
+                //then - verify the output
+                .assertNext(page -> {
+                    Assertions.assertThat(page.content()).hasSize(2);
+                    Assertions.assertThat(page.nextCursor()).isEqualTo(6L);
+                })
+                .verifyComplete();
+    }
+
+    // unit test for searchEmployees method
+    @DisplayName("unit test for searchEmployees method")
+    @Test
+    void givenLastNamePrefixWithWildcard_whenSearchEmployees_thenEscapePattern() {
+        // given - precondition or setup
+        Employee employee = Employee.builder().id(1L).firstName("John").lastName("Do_e").email("john@doe.com").build();
+
+        BDDMockito.given(employeeRepository.findByLastNameLike("Do\\_%", 21, 20L)).willReturn(Flux.just(employee));
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeService.searchEmployees("Do_", null, true, 1, 20))
+                //then - verify the output
+                .assertNext(slice -> {
+                    Assertions.assertThat(slice.content()).hasSize(1);
+                    Assertions.assertThat(slice.page()).isEqualTo(1);
+                    Assertions.assertThat(slice.hasNext()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    // unit test for patchEmployee method (missing employee)
+    @DisplayName("unit test for patchEmployee method (missing employee)")
+    @Test
+    void givenMissingEmployee_whenPatchEmployee_thenReturnFalse() {
+        // given - precondition or setup
+        BDDMockito.given(employeeRepository.patchById(1L, "hehe", null, null)).willReturn(Mono.just(0));
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeService.patchEmployee(1L, new EmployeePatch("hehe", null, null)))
+                //then - verify the output
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    // unit test for deleteEmployees method
+    @DisplayName("unit test for deleteEmployees method")
+    @Test
+    void givenManyEmployeeIds_whenDeleteEmployees_thenDeleteInBoundedChunks() {
+        // given - precondition or setup
+        List<Long> ids = java.util.stream.LongStream.rangeClosed(1, 2500).boxed().toList();
+        BDDMockito.given(employeeRepository.deleteEmployeesByIdIn(ArgumentMatchers.anyList()))
+                .willAnswer(invocationOnMock -> Mono.just(((List<?>) invocationOnMock.getArgument(0)).size()));
+
+        //when - action or behaviour that we are going to test
+        StepVerifier.create(employeeService.deleteEmployees(ids))
+                //then - verify the output
+                .expectNext(2500)
+                .verifyComplete();
+        Mockito.verify(employeeRepository, Mockito.times(3)).deleteEmployeesByIdIn(ArgumentMatchers.anyList());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.unittesting.benchmark;
+
+import com.example.unittesting.dto.EmployeeSearchHit;
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.search.EmployeeSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead latency of {@link EmployeeSearchIndex} over generated employees: a typo, a two-token prefix and a
+ * query made only of trigrams that nearly every employee shares.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class EmployeeSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"John", "Johanna", "Ramesh", "Priya", "Maria", "James", "Robert",
+            "Linda", "Michael", "Sarah", "David", "Emma", "Daniel", "Olivia", "Arjun", "Sofia", "Lucas", "Chen", "Yuki",
+            "Ahmed", "Fatima", "Carlos", "Anna", "Peter", "Laura", "Thomas", "Nina", "Omar", "Elena", "Kevin"};
+
+    private static final String[] LAST_NAMES = {"Smith", "Doe", "Fadatare", "Johnson", "Garcia", "Miller", "Davis",
+            "Martinez", "Brown", "Wilson", "Anderson", "Taylor", "Thomas", "Moore", "Jackson", "White", "Harris",
+            "Clark", "Lewis", "Walker", "Hall", "Young", "King", "Wright", "Lopez", "Hill", "Scott", "Green", "Adams",
+            "Baker"};
+
+    private static final String[] DOMAINS = {"gmail.com", "example.com", "company.org", "mail.net"};
+
+    @Param({"100000", "1000000"})
+    private int employees;
+
+    @Param({"jhon", "maria gar", "gmail.com"})
+    private String query;
+
+    private EmployeeSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new EmployeeSearchIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        index.rebuild(sink -> {
+            for (long id = 1; id <= employees; id++) {
+                String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                sink.accept(Employee.builder()
+                        .id(id)
+                        .firstName(firstName)
+                        .lastName(lastName)
+                        .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + id + "@"
+                                + DOMAINS[random.nextInt(DOMAINS.length)])
+                        .build());
+            }
+        });
+    }
+
+    @Benchmark
+    public List<EmployeeSearchHit> search() {
+        return index.search(query, 10);
+    }
+}
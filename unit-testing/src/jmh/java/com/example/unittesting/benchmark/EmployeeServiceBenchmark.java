@@ -0,0 +1,108 @@
+package com.example.unittesting.benchmark;
+
+import com.example.unittesting.UnitTestingApplication;
+import com.example.unittesting.dto.EmployeePage;
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.repository.EmployeeRepository;
+import com.example.unittesting.service.EmployeeService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link EmployeeService} hot paths against an in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    private EmployeeRepository employeeRepository;
+
+    private Cache secondLevelCache;
+
+    private long[] ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UnitTestingApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn")
+                .run();
+        employeeService = context.getBean(EmployeeService.class);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        secondLevelCache = context.getBean(EntityManagerFactory.class).getCache();
+
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("seed-" + i + "@example.com")
+                    .build());
+        }
+        ids = employeeService.saveEmployees(employees).stream()
+                .mapToLong(result -> result.id())
+                .toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeByIdCached() {
+        return employeeService.getEmployeeById(randomId());
+    }
+
+    // the id is evicted from the second-level cache first, so every call is a database round trip
+    @Benchmark
+    public Optional<Employee> findEmployeeByIdUncached() {
+        long id = randomId();
+        secondLevelCache.evict(Employee.class, id);
+        return employeeRepository.findById(id);
+    }
+
+    @Benchmark
+    public EmployeePage getEmployeesAfter() {
+        return employeeService.getEmployeesAfter(randomId(), 50);
+    }
+
+    @Benchmark
+    public Employee saveEmployee() {
+        return employeeService.saveEmployee(Employee.builder()
+                .firstName("Bench")
+                .lastName("Mark")
+                .email("bench-" + emailSequence.incrementAndGet() + "@example.com")
+                .build());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.unittesting.benchmark;
+
+import com.example.unittesting.exception.DuplicateResourceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a rejected create: throwing and catching the business exception from {@code depth} frames down, as from
+ * a service under Spring's MVC, transaction and AOP stack, against an exception that fills in its stack trace;
+ * plus writing the problem body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private static final String MESSAGE = "Employee with email john.doe@example.com already exists";
+
+    @Param({"20", "150"})
+    private int depth;
+
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(ProblemDetail.class);
+    }
+
+    @Benchmark
+    public RuntimeException stacklessBusinessException() {
+        try {
+            return throwAt(depth, true);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException stackTraceException() {
+        try {
+            return throwAt(depth, false);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public byte[] problemBody() throws JsonProcessingException {
+        return writer.writeValueAsBytes(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, MESSAGE));
+    }
+
+    private static RuntimeException throwAt(int depth, boolean stackless) {
+        if (depth > 0) {
+            return throwAt(depth - 1, stackless);
+        }
+        throw stackless ? new DuplicateResourceException(MESSAGE) : new IllegalStateException(MESSAGE);
+    }
+}
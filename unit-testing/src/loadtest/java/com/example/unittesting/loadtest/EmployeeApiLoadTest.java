@@ -0,0 +1,217 @@
+package com.example.unittesting.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator for the employee API.
+ * <p>
+ * Every target is seeded through {@code POST /api/employees/batch}, warmed up, and then sent GETs against each
+ * {@code --path} at a fixed {@code --rate} per second for {@code --duration} seconds. {@code {id}} in a path is
+ * replaced by a random seeded id. Requests leave on schedule whether or not earlier ones have been answered, and
+ * each latency is measured from the time its request was due, not from when it was actually sent: a stalled server
+ * shows up as the queueing delay real users would see instead of pausing the generator (coordinated omission). At
+ * most {@code --concurrency} requests are outstanding; a request held back by that cap still counts its wait.
+ * <p>
+ * By default two paths are measured: {@code /api/employees/{id}}, which is mostly served by the employee cache,
+ * and {@code /api/employees?after={id}&limit=50}, which always reads from the database. Throughput and latency
+ * percentiles are printed per target and path, so two servers can be compared in one run, e.g. the default
+ * platform-thread build against one started with {@code -Pjava21} and the {@code virtual-threads} Spring profile:
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dexec.args="--target platform=http://localhost:8080 \
+ *     --target virtual=http://localhost:8081 --rate 2000 --concurrency 1000 --duration 30"
+ * </pre>
+ * The WebFlux + R2DBC module ({@code ../unit-testing-reactive}) serves the same contract, so it can be compared
+ * against this servlet build the same way, on a path both implement without a cache in front:
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dexec.args="--target servlet=http://localhost:8080 \
+ *     --target reactive=http://localhost:8081 --path /api/employees?after={id}&amp;limit=50 --rate 2000"
+ * </pre>
+ * A rate above what a server sustains makes its latencies grow for the whole run; that is the measurement, not a
+ * fault of the generator. All requests come from one address, so leave {@code employee.throttle.enabled} off
+ * unless the run is meant to measure the rate limiter.
+ */
+public class EmployeeApiLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, URI> target : options.targets.entrySet()) {
+            long[] ids = seed(client, target.getValue(), options.seed);
+            System.out.printf("%s: seeded %d employees%n", target.getKey(), ids.length);
+
+            for (String path : options.paths) {
+                System.out.printf("%s %s: warming up for %ds%n", target.getKey(), path, options.warmupSeconds);
+                run(client, target.getValue(), path, ids, options, options.warmupSeconds);
+
+                System.out.printf("%s %s: measuring for %ds at %d req/s%n", target.getKey(), path, options.durationSeconds, options.rate);
+                Samples samples = run(client, target.getValue(), path, ids, options, options.durationSeconds);
+                results.add(Result.of(target.getKey(), path, samples));
+            }
+        }
+
+        System.out.printf("%n%-12s %-40s %12s %10s %10s %10s %10s %10s%n", "target", "path", "req/s", "errors", "p50 ms",
+                "p99 ms", "p99.9 ms", "max ms");
+        for (Result result : results) {
+            System.out.printf("%-12s %-40s %12.1f %10d %10.2f %10.2f %10.2f %10.2f%n", result.name, result.path,
+                    result.throughput, result.errors, result.p50Millis, result.p99Millis, result.p999Millis, result.maxMillis);
+        }
+        for (Result result : results) {
+            System.out.println(OBJECT_MAPPER.writeValueAsString(result));
+        }
+    }
+
+    private static long[] seed(HttpClient client, URI baseUri, int count) throws IOException, InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Map<String, String>> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(Map.of(
+                    "firstName", "Load" + i,
+                    "lastName", "Test",
+                    "email", "load-" + runId + "-" + i + "@example.com"));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/employees/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(employees)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding " + baseUri + " failed with status " + response.statusCode());
+        }
+
+        List<Long> ids = new ArrayList<>(count);
+        for (JsonNode result : OBJECT_MAPPER.readTree(response.body())) {
+            if (result.hasNonNull("id")) {
+                ids.add(result.get("id").asLong());
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // request i is due at start + i / rate; its latency runs from then until its response, however late it was sent
+    private static Samples run(HttpClient client, URI baseUri, String path, long[] ids, Options options, int seconds)
+            throws InterruptedException {
+        int requests = Math.toIntExact((long) options.rate * seconds);
+        double intervalNanos = 1_000_000_000.0 / options.rate;
+        long[] latencies = new long[requests];
+        AtomicLong errors = new AtomicLong();
+        Semaphore inFlight = new Semaphore(options.concurrency);
+        CountDownLatch completed = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long due = start + (long) (i * intervalNanos);
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+
+            long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path.replace("{id}", Long.toString(id))))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            int index = i;
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                latencies[index] = System.nanoTime() - due;
+                if (failure != null || response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+                inFlight.release();
+                completed.countDown();
+            });
+        }
+        completed.await();
+        return new Samples(latencies, errors.get(), System.nanoTime() - start);
+    }
+
+    record Samples(long[] latencies, long errors, long elapsedNanos) {
+    }
+
+    record Result(String name, String path, long requests, long errors, double throughput,
+                  double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        static Result of(String name, String path, Samples samples) {
+            long[] all = samples.latencies().clone();
+            if (all.length == 0) {
+                return new Result(name, path, 0, samples.errors(), 0, 0, 0, 0, 0);
+            }
+            Arrays.sort(all);
+            return new Result(name, path, all.length, samples.errors(), all.length / (samples.elapsedNanos() / 1_000_000_000.0),
+                    percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999), all[all.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    static class Options {
+        final Map<String, URI> targets = new LinkedHashMap<>();
+        final List<String> paths = new ArrayList<>();
+        int rate = 1000;
+        int concurrency = 500;
+        int durationSeconds = 30;
+        int warmupSeconds = 10;
+        int seed = 1000;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--target" -> {
+                        String[] target = value.split("=", 2);
+                        options.targets.put(target[0], URI.create(target[1]));
+                    }
+                    case "--path" -> options.paths.add(value);
+                    case "--rate" -> options.rate = Integer.parseInt(value);
+                    case "--concurrency" -> options.concurrency = Integer.parseInt(value);
+                    case "--duration" -> options.durationSeconds = Integer.parseInt(value);
+                    case "--warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                    case "--seed" -> options.seed = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+                i++;
+            }
+            if (options.targets.isEmpty()) {
+                options.targets.put("default", URI.create("http://localhost:8080"));
+            }
+            if (options.paths.isEmpty()) {
+                // cache-served, then database-bound
+                options.paths.add("/api/employees/{id}");
+                options.paths.add("/api/employees?after={id}&limit=50");
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.unittesting.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+/**
+ * Cold-start benchmark for the startup variants of the application.
+ * <p>
+ * Each variant is started {@code --runs} times as a fresh process. Time to ready is measured from process start
+ * until {@code /actuator/health} answers 200, then the latency of a first request to {@code --path} is taken and
+ * the process is stopped. Variants are found in {@code target/} and skipped when not built:
+ * <ul>
+ *     <li>{@code jar}: the executable jar as built</li>
+ *     <li>{@code aot}: the same jar with {@code -Dspring.aot.enabled=true}, when it was built with {@code -Pfaststart}</li>
+ *     <li>{@code cds}: the extracted AOT jar in {@code target/faststart} with its CDS archive</li>
+ *     <li>{@code native}: the GraalVM image from {@code -Pfaststart,native native:compile}</li>
+ * </ul>
+ * Arguments after {@code --} are passed to every variant, typically the datasource:
+ * <pre>
+ * mvn -Pfaststart package -DskipTests
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.main-class=com.example.unittesting.loadtest.StartupBenchmark \
+ *     -Dexec.args="--runs 5 -- --spring.datasource.url=jdbc:mysql://localhost:3306/ems --spring.datasource.username=ems"
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final long POLL_MILLIS = 10;
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+
+        Map<String, List<String>> variants = variants(options);
+        if (variants.isEmpty()) {
+            throw new IllegalStateException("Nothing to benchmark in " + options.target + ", build with mvn package first");
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] readyNanos = new long[options.runs];
+            long[] firstRequestNanos = new long[options.runs];
+            for (int run = 0; run < options.runs; run++) {
+                long[] sample = startOnce(client, variant.getValue(), options);
+                readyNanos[run] = sample[0];
+                firstRequestNanos[run] = sample[1];
+                System.out.printf("%s run %d: ready in %.0f ms, first request %.1f ms%n", variant.getKey(), run + 1,
+                        sample[0] / 1_000_000.0, sample[1] / 1_000_000.0);
+            }
+            results.add(Result.of(variant.getKey(), readyNanos, firstRequestNanos));
+        }
+
+        System.out.printf("%n%-8s %16s %16s %20s %20s%n", "variant", "ready p50 ms", "ready min ms",
+                "first req p50 ms", "first req min ms");
+        for (Result result : results) {
+            System.out.printf("%-8s %16.0f %16.0f %20.1f %20.1f%n", result.name, result.readyP50Millis,
+                    result.readyMinMillis, result.firstRequestP50Millis, result.firstRequestMinMillis);
+        }
+        for (Result result : results) {
+            System.out.println(OBJECT_MAPPER.writeValueAsString(result));
+        }
+    }
+
+    private static Map<String, List<String>> variants(Options options) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+
+        Path jar = Files.exists(options.target) ? findJar(options.target) : null;
+        if (jar != null) {
+            variants.put("jar", List.of(java, "-jar", jar.toString()));
+            if (isAotProcessed(jar)) {
+                variants.put("aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", jar.toString()));
+            }
+        }
+
+        Path faststart = options.target.resolve("faststart");
+        Path archive = faststart.resolve("application.jsa");
+        if (Files.exists(archive)) {
+            variants.put("cds", List.of(java, "-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+                    "-jar", faststart.resolve("application.jar").toString()));
+        }
+
+        Path image = options.target.resolve("unit-testing");
+        if (Files.isExecutable(image) && !Files.isDirectory(image)) {
+            variants.put("native", List.of(image.toString()));
+        }
+        return variants;
+    }
+
+    private static Path findJar(Path target) throws IOException {
+        try (var files = Files.list(target)) {
+            return files.filter(file -> file.getFileName().toString().matches("unit-testing-.*(?<!-plain)\\.jar"))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private static boolean isAotProcessed(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry("BOOT-INF/classes/com/example/unittesting/UnitTestingApplication__ApplicationContextInitializer.class") != null;
+        }
+    }
+
+    private static long[] startOnce(HttpClient client, List<String> command, Options options) throws Exception {
+        List<String> arguments = new ArrayList<>(command);
+        arguments.add("--server.port=" + options.port);
+        arguments.addAll(options.applicationArguments);
+
+        File log = File.createTempFile("startup-benchmark", ".log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(arguments)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            URI baseUri = URI.create("http://localhost:" + options.port);
+            long deadline = start + Duration.ofSeconds(options.timeoutSeconds).toNanos();
+            while (!isHealthy(client, baseUri)) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Application did not become healthy, see " + log);
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            long ready = System.nanoTime() - start;
+
+            long requestStart = System.nanoTime();
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(baseUri.resolve(options.path)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            long firstRequest = System.nanoTime() - requestStart;
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("First request failed with status " + response.statusCode() + ", see " + log);
+            }
+
+            log.delete();
+            return new long[]{ready, firstRequest};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static boolean isHealthy(HttpClient client, URI baseUri) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/actuator/health")).GET().build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // not listening yet
+            return false;
+        }
+    }
+
+    record Result(String name, int runs, double readyP50Millis, double readyMinMillis,
+                  double firstRequestP50Millis, double firstRequestMinMillis) {
+
+        static Result of(String name, long[] readyNanos, long[] firstRequestNanos) {
+            long[] ready = Arrays.stream(readyNanos).sorted().toArray();
+            long[] firstRequest = Arrays.stream(firstRequestNanos).sorted().toArray();
+            return new Result(name, ready.length, median(ready), ready[0] / 1_000_000.0,
+                    median(firstRequest), firstRequest[0] / 1_000_000.0);
+        }
+
+        private static double median(long[] sorted) {
+            return sorted[(sorted.length - 1) / 2] / 1_000_000.0;
+        }
+    }
+
+    static class Options {
+        Path target = Path.of("target");
+        String path = "/api/employees?after=0&limit=50";
+        int runs = 5;
+        int port = 8097;
+        int timeoutSeconds = 120;
+        final List<String> applicationArguments = new ArrayList<>();
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--")) {
+                    options.applicationArguments.addAll(Arrays.asList(args).subList(i + 1, args.length));
+                    break;
+                }
+
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--target" -> options.target = Path.of(value);
+                    case "--path" -> options.path = value;
+                    case "--runs" -> options.runs = Integer.parseInt(value);
+                    case "--port" -> options.port = Integer.parseInt(value);
+                    case "--timeout" -> options.timeoutSeconds = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+                i++;
+            }
+            return options;
+        }
+    }
+}
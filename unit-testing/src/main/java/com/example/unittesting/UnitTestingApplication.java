@@ -1,9 +1,14 @@
 package com.example.unittesting;
 
+import com.example.unittesting.config.EmployeeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(EmployeeRuntimeHints.class)
 public class UnitTestingApplication {
 
 	public static void main(String[] args) {
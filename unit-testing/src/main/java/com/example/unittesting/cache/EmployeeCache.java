@@ -0,0 +1,132 @@
+package com.example.unittesting.cache;
+
+import com.example.unittesting.model.Employee;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Size-bounded, W-TinyLFU cache of employees by id, with a secondary email index.
+ * Entries are stored and handed out as copies, so callers can mutate what they get back.
+ * <p>
+ * A row read from the database is only cached if its id was not evicted since the read began: callers take a
+ * {@link #ticket()} before the read and hand it to {@link #put(Employee, long)}. Otherwise a reader that loaded
+ * the row just before a write committed could put it back after the write's eviction, and it would stay stale
+ * until it expired. A put also never replaces a newer version of the employee.
+ */
+@Component
+public class EmployeeCache implements MeterBinder {
+
+    private static final int EVICTION_STRIPES = 4096;
+
+    private final Cache<Long, Employee> employeesById;
+
+    // email -> id only; the employee itself lives in employeesById, so an update or
+    // eviction there can never leave a stale employee behind an email key
+    private final Cache<String, Long> idsByEmail;
+
+    private final AtomicLong evictionSequence = new AtomicLong();
+
+    // last eviction per stripe of ids; ids sharing a stripe only cost each other a skipped put, never a stale entry
+    private final AtomicLongArray evictedAt = new AtomicLongArray(EVICTION_STRIPES);
+
+    public EmployeeCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${employee.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.employeesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Employee> getById(long id) {
+        return Optional.ofNullable(employeesById.getIfPresent(id)).map(EmployeeCache::copy);
+    }
+
+    public Optional<Employee> getByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        Long id = idsByEmail.getIfPresent(email);
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        Employee employee = employeesById.getIfPresent(id);
+        if (employee == null || !email.equals(employee.getEmail())) {
+            idsByEmail.asMap().remove(email, id);
+            return Optional.empty();
+        }
+        return Optional.of(copy(employee));
+    }
+
+    /**
+     * Take before reading employees from the database, and pass to {@link #put(Employee, long)} with what was read.
+     */
+    public long ticket() {
+        return evictionSequence.get();
+    }
+
+    /**
+     * Caches the employee unless its id was evicted after the ticket was taken or a newer version is cached.
+     */
+    public void put(Employee employee, long ticket) {
+        Employee copy = copy(employee);
+        // checked inside the compute: an eviction either stamps the id before it, or removes the entry after it
+        Employee cached = employeesById.asMap().compute(copy.getId(), (id, current) ->
+                evictedAt.get(stripe(id)) > ticket || isNewer(current, copy) ? current : copy);
+        if (cached == copy && copy.getEmail() != null) {
+            idsByEmail.put(copy.getEmail(), copy.getId());
+        }
+    }
+
+    public void evict(long id) {
+        evictedAt.accumulateAndGet(stripe(id), evictionSequence.incrementAndGet(), Math::max);
+        Employee employee = employeesById.asMap().remove(id);
+        if (employee != null) {
+            idsByEmail.asMap().remove(employee.getEmail(), id);
+        }
+    }
+
+    public CacheStats byIdStats() {
+        return employeesById.stats();
+    }
+
+    public CacheStats byEmailStats() {
+        return idsByEmail.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, employeesById, "employees.by-id");
+        CaffeineCacheMetrics.monitor(registry, idsByEmail, "employees.by-email");
+    }
+
+    private static int stripe(long id) {
+        return Long.hashCode(id) & (EVICTION_STRIPES - 1);
+    }
+
+    private static boolean isNewer(Employee current, Employee candidate) {
+        return current != null && current.getVersion() > candidate.getVersion();
+    }
+
+    private static Employee copy(Employee employee) {
+        return employee.toBuilder().build();
+    }
+}
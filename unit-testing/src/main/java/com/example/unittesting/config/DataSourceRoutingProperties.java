@@ -0,0 +1,21 @@
+package com.example.unittesting.config;
+
+import com.example.unittesting.datasource.ReplicaSelection;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas for {@code employee.datasource.routing}; the primary stays on {@code spring.datasource}.
+ */
+@ConfigurationProperties("employee.datasource.routing")
+public record DataSourceRoutingProperties(boolean enabled,
+                                          @DefaultValue("round-robin") ReplicaSelection selection,
+                                          @DefaultValue("1s") Duration readYourWritesWindow,
+                                          @DefaultValue List<Replica> replicas) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.unittesting.config;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import com.example.unittesting.dto.EmployeeSummary;
+import com.example.unittesting.model.Employee;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native-image hints for what AOT processing cannot see on its own. Entities, repositories and the types in
+ * controller signatures are registered by Spring; Lombok generates plain code and needs nothing.
+ */
+public class EmployeeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // instantiated by Hibernate from "select new ..." constructor expressions
+        hints.reflection().registerType(EmployeeSummary.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(EmployeeChangeEvent.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // written with an ObjectMapper outside a controller signature: the NDJSON export and the file change sink
+        // (the export hands back a StreamingResponseBody, so Spring never sees Employee in it)
+        bindingRegistrar.registerReflectionHints(hints.reflection(), Employee.class, EmployeeChangeEvent.class);
+
+        // the JCache provider is looked up by class name and reads its defaults from reference.conf
+        hints.reflection().registerType(CaffeineCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("reference.conf");
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.unittesting.config;
+
+import com.example.unittesting.metrics.PersistenceContextMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration(proxyBeanMethods = false)
+public class MetricsWebConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricsWebConfiguration(ObjectProvider<EntityManagerFactory> entityManagerFactory,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        MeterRegistry registryForMetrics = meterRegistry.getIfAvailable();
+        // neither exists in @WebMvcTest slices
+        if (factory != null && registryForMetrics != null) {
+            registry.addInterceptor(new PersistenceContextMetricsInterceptor(factory, registryForMetrics));
+        }
+    }
+}
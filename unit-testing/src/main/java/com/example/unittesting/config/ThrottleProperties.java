@@ -0,0 +1,32 @@
+package com.example.unittesting.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-client rate limit and per-endpoint bulkheads for {@code /api/employees/**}, off unless enabled. Bulkhead
+ * limits are keyed by controller and handler method, e.g.
+ * {@code employee.throttle.bulkhead.limits[EmployeeController#getAllEmployees]=4}. Only the API keys listed in
+ * {@code employee.throttle.rate-limit.api-keys} get a bucket of their own; other clients are limited by address.
+ */
+@ConfigurationProperties("employee.throttle")
+public record ThrottleProperties(@DefaultValue("false") boolean enabled,
+                                 @DefaultValue RateLimit rateLimit,
+                                 @DefaultValue Bulkhead bulkhead) {
+
+    public record RateLimit(@DefaultValue("50") double requestsPerSecond,
+                            @DefaultValue("100") int burst,
+                            @DefaultValue("X-API-Key") String apiKeyHeader,
+                            @DefaultValue Set<String> apiKeys,
+                            @DefaultValue("100000") long maxClients,
+                            @DefaultValue("10m") Duration idleExpiry) {
+    }
+
+    public record Bulkhead(@DefaultValue("32") int maxConcurrent,
+                           @DefaultValue Map<String, Integer> limits) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.unittesting.config;
+
+import com.example.unittesting.throttle.ClientRateLimiter;
+import com.example.unittesting.throttle.EndpointBulkheads;
+import com.example.unittesting.throttle.ThrottleInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ThrottleProperties.class)
+@ConditionalOnProperty(name = "employee.throttle.enabled", havingValue = "true")
+public class ThrottleWebConfiguration implements WebMvcConfigurer {
+
+    private final ThrottleProperties properties;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ThrottleWebConfiguration(ThrottleProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // no registry in @WebMvcTest slices
+        MeterRegistry registryForMetrics = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        ThrottleProperties.RateLimit rateLimit = properties.rateLimit();
+        ThrottleProperties.Bulkhead bulkhead = properties.bulkhead();
+
+        registry.addInterceptor(new ThrottleInterceptor(
+                        new ClientRateLimiter(rateLimit.requestsPerSecond(), rateLimit.burst(), rateLimit.maxClients(),
+                                rateLimit.idleExpiry(), registryForMetrics),
+                        new EndpointBulkheads(bulkhead.maxConcurrent(), bulkhead.limits(), registryForMetrics),
+                        rateLimit.apiKeyHeader(), rateLimit.apiKeys()))
+                .addPathPatterns("/api/employees", "/api/employees/**");
+    }
+}
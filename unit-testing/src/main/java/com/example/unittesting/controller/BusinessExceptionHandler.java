@@ -0,0 +1,32 @@
+package com.example.unittesting.controller;
+
+import com.example.unittesting.exception.BusinessException;
+import com.example.unittesting.exception.DuplicateResourceException;
+import com.example.unittesting.exception.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps business exceptions to application/problem+json responses in the handler call itself, instead of
+ * {@code sendError} and a second dispatch through Spring Boot's error controller.
+ */
+@RestControllerAdvice
+public class BusinessExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleNotFound(ResourceNotFoundException e) {
+        return problem(HttpStatus.NOT_FOUND, e);
+    }
+
+    @ExceptionHandler(DuplicateResourceException.class)
+    public ResponseEntity<ProblemDetail> handleDuplicate(DuplicateResourceException e) {
+        return problem(HttpStatus.CONFLICT, e);
+    }
+
+    private static ResponseEntity<ProblemDetail> problem(HttpStatus status, BusinessException e) {
+        return ResponseEntity.status(status).body(ProblemDetail.forStatusAndDetail(status, e.getMessage()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.unittesting.controller;
+
+import com.example.unittesting.dto.EmployeeChangeFeed;
+import com.example.unittesting.outbox.EmployeeOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Incremental change feed, so consumers fetch deltas instead of re-reading {@code GET /api/employees}. Start with
+ * {@code since=0} and pass the returned {@code next} on every following call.
+ */
+@RestController
+@RequestMapping("/api/employees/changes")
+@RequiredArgsConstructor
+public class EmployeeChangeController {
+
+    private final EmployeeOutbox employeeOutbox;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public EmployeeChangeFeed getChanges(@RequestParam(name = "since", defaultValue = "0") long since,
+                                         @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return employeeOutbox.changesSince(since, limit);
+    }
+}
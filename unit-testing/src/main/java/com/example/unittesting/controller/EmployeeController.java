@@ -1,56 +1,303 @@
 package com.example.unittesting.controller;
 
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeBulkDeleteResult;
+import com.example.unittesting.dto.EmployeeFields;
+import com.example.unittesting.dto.EmployeeLookupResult;
+import com.example.unittesting.dto.EmployeePage;
+import com.example.unittesting.dto.EmployeePatch;
+import com.example.unittesting.dto.EmployeeSearchHit;
+import com.example.unittesting.dto.EmployeeSlice;
+import com.example.unittesting.dto.EmployeeSummary;
+import com.example.unittesting.exception.ResourceNotFoundException;
 import com.example.unittesting.model.Employee;
 import com.example.unittesting.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
 public class EmployeeController {
 
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    // in the order content negotiation prefers them for a wildcard Accept
+    private static final List<MediaType> ENCODINGS = List.of(MediaType.APPLICATION_JSON,
+            new MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_CBOR);
+
     private final EmployeeService employeeService;
 
+    private final ObjectMapper objectMapper;
+
+    @Value("${employee.lookup.max-ids:1000}")
+    private int maxLookupIds;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public Employee createEmployee(@RequestBody Employee employee) {
         return employeeService.saveEmployee(employee);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<EmployeeBatchResult>> createEmployees(@RequestBody List<Employee> employees) {
+        if (employees.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(employeeService.saveEmployees(employees));
+    }
+
+    /**
+     * Lists every employee; {@code fields} (e.g. {@code fields=id,email}) narrows both the response and the
+     * SQL select list.
+     */
     @GetMapping
+    public ResponseEntity<List<?>> getAllEmployees(@RequestParam(name = "fields", required = false) List<String> fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(employeeService.getAllEmployees());
+        }
+
+        List<String> selectedFields = distinctFields(fields);
+        if (!EmployeeFields.areValid(selectedFields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(employeeService.getAllEmployees(selectedFields));
+    }
+
+    @GetMapping(params = "limit")
+    @ResponseStatus(HttpStatus.OK)
+    public EmployeePage getEmployeesPage(@RequestParam(name = "after", defaultValue = "0") long after,
+                                         @RequestParam("limit") int limit) {
+        return employeeService.getEmployeesAfter(after, limit);
+    }
+
+    /**
+     * Index-backed name search. {@code lastName} is required because it leads the (last_name, first_name) index;
+     * with {@code prefix=true} the last field given (firstName if present, otherwise lastName) is matched as a prefix.
+     */
+    @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
-    public List<Employee> getAllEmployees() {
-        return employeeService.getAllEmployees();
+    public EmployeeSlice searchEmployees(@RequestParam("lastName") String lastName,
+                                         @RequestParam(name = "firstName", required = false) String firstName,
+                                         @RequestParam(name = "prefix", defaultValue = "false") boolean prefix,
+                                         @RequestParam(name = "page", defaultValue = "0") int page,
+                                         @RequestParam(name = "size", defaultValue = "20") int size) {
+        return employeeService.searchEmployees(lastName, firstName, prefix, page, size);
     }
 
+    /**
+     * Ranked, typo-tolerant type-ahead search over first name, last name and email, served from memory.
+     */
+    @GetMapping("/search/fuzzy")
+    @ResponseStatus(HttpStatus.OK)
+    public List<EmployeeSearchHit> fuzzySearchEmployees(@RequestParam("q") String query,
+                                                        @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return employeeService.fuzzySearchEmployees(query, limit);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        // rows are flushed by the container buffer, not one network write per row
+        ObjectWriter writer = objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                employeeService.exportEmployees(employee -> {
+                    try {
+                        writer.writeValue(generator, employee);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Multi-get: one request and one transaction for many ids instead of one {@code GET /{id}} each. Results come
+     * back in request order, with NOT_FOUND for ids that do not exist.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<List<EmployeeLookupResult>> lookupEmployees(@RequestBody List<Long> ids) {
+        return getEmployeesByIds(ids);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<EmployeeLookupResult>> getEmployeesByIds(@RequestParam("ids") List<Long> ids) {
+        if (ids.size() > maxLookupIds || ids.stream().anyMatch(Objects::isNull)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(employeeService.getEmployeesByIds(ids));
+    }
+
+    /**
+     * Returns the employee with a strong ETag for this representation: the version, plus the field selection and
+     * the encoding when they differ from the full JSON body. A matching {@code If-None-Match} is answered with 304
+     * from the version alone, without loading or serializing the employee.
+     */
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Employee> getEmployee(@PathVariable Long id) {
-        return employeeService.getEmployeeById(id).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+    public ResponseEntity<Object> getEmployee(@PathVariable Long id,
+                                              @RequestParam(name = "fields", required = false) List<String> fields,
+                                              @RequestHeader HttpHeaders headers) {
+        List<String> selectedFields = fields == null ? null : distinctFields(fields);
+        if (selectedFields != null && !EmployeeFields.areValid(selectedFields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        MediaType encoding = encoding(headers.getAccept());
+
+        List<String> ifNoneMatch = headers.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            Optional<Long> version = employeeService.getEmployeeVersion(id);
+            if (version.isEmpty()) {
+                throw employeeNotFound(id);
+            }
+            String eTag = eTag(version.get(), selectedFields, encoding);
+            if (matchesWeakly(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+            }
+        }
+
+        return employeeService.getEmployeeById(id)
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(eTag(employee.getVersion(), selectedFields, encoding))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(selectedFields == null ? employee : EmployeeFields.select(employee, selectedFields)))
+                .orElseThrow(() -> employeeNotFound(id));
+    }
+
+    private static List<String> distinctFields(List<String> fields) {
+        return fields.stream().map(String::strip).distinct().toList();
     }
 
+    /**
+     * Replaces the employee's names and email. With {@code If-Match} the update only applies if the employee is
+     * still at that version, otherwise 412; the version is checked again by the UPDATE itself. The precondition
+     * and the merge are based on the row in the database, never on a cached copy.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<Employee> updateEmployee(@PathVariable("id") Long id, @RequestBody Employee employee) {
-        return employeeService.getEmployeeById(id)
+    public ResponseEntity<Employee> updateEmployee(@PathVariable("id") Long id, @RequestBody Employee employee,
+                                                   @RequestHeader HttpHeaders headers) {
+        List<String> ifMatch = headers.getIfMatch();
+        return employeeService.getEmployeeForUpdate(id)
                 .map(savedEmployee -> {
+                    if (!ifMatch.isEmpty() && !matchesStrongly(ifMatch, savedEmployee.getVersion())) {
+                        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                                .eTag(eTag(savedEmployee.getVersion()))
+                                .<Employee>build();
+                    }
                     savedEmployee.setFirstName(employee.getFirstName());
                     savedEmployee.setLastName(employee.getLastName());
                     savedEmployee.setEmail(employee.getEmail());
                     Employee updatedEmployee = employeeService.updateEmployee(savedEmployee);
-                    return ResponseEntity.ok(updatedEmployee);
-                }).orElseGet(() -> ResponseEntity.notFound().build());
+                    return ResponseEntity.ok().eTag(eTag(updatedEmployee.getVersion())).body(updatedEmployee);
+                }).orElseThrow(() -> employeeNotFound(id));
+    }
+
+    // the employee changed between our read and the version-checked UPDATE
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleVersionConflict(WebRequest request) {
+        return ResponseEntity.status(request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT).build();
+    }
+
+    // rendered as problem+json by BusinessExceptionHandler
+    private static ResourceNotFoundException employeeNotFound(long id) {
+        return new ResourceNotFoundException("Employee " + id + " not found");
+    }
+
+    private static String eTag(long version) {
+        return eTag(version, null, MediaType.APPLICATION_JSON);
+    }
+
+    // e.g. "3" for the full JSON body, "3;fields=id,email" or "3;x-jackson-smile" for the other representations
+    private static String eTag(long version, List<String> fields, MediaType encoding) {
+        StringBuilder eTag = new StringBuilder("\"").append(version);
+        if (fields != null) {
+            eTag.append(";fields=").append(String.join(",", fields));
+        }
+        if (!MediaType.APPLICATION_JSON.equals(encoding)) {
+            eTag.append(';').append(encoding.getSubtype());
+        }
+        return eTag.append('"').toString();
+    }
+
+    // the encoding content negotiation picks: the highest-quality Accept entry, where a wildcard means JSON
+    private static MediaType encoding(List<MediaType> accept) {
+        return accept.stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .flatMap(acceptable -> ENCODINGS.stream().filter(acceptable::includes).limit(1))
+                .findFirst()
+                .orElse(MediaType.APPLICATION_JSON);
+    }
+
+    // If-None-Match uses weak comparison, If-Match strong comparison (RFC 9110, section 8.8.3.2)
+    private static boolean matchesWeakly(List<String> eTags, String eTag) {
+        return eTags.stream().anyMatch(candidate -> candidate.equals("*") || candidate.equals(eTag) || candidate.equals("W/" + eTag));
+    }
+
+    // every representation of one version is the same employee state, so any of their strong ETags matches
+    private static boolean matchesStrongly(List<String> eTags, long version) {
+        return eTags.stream().anyMatch(candidate -> candidate.equals("*") || candidate.equals(eTag(version))
+                || candidate.startsWith("\"" + version + ";"));
+    }
+
+    // an empty patch would change nothing but the version
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchEmployee(@PathVariable("id") long id, @RequestBody EmployeePatch patch) {
+        if (patch.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!employeeService.patchEmployee(id, patch)) {
+            throw employeeNotFound(id);
+        }
+
+        return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEmployeeById(@PathVariable("id") long employeeId) {
-        employeeService.deleteEmployee(employeeId);
+        if (!employeeService.deleteEmployee(employeeId)) {
+            throw employeeNotFound(employeeId);
+        }
 
         return ResponseEntity.ok("Employee deleted successfully");
     }
 
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<EmployeeBulkDeleteResult> deleteEmployeesByIds(@RequestParam("ids") List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(new EmployeeBulkDeleteResult(ids.size(), employeeService.deleteEmployees(ids)));
+    }
+
 }
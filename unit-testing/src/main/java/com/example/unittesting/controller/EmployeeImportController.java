@@ -0,0 +1,47 @@
+package com.example.unittesting.controller;
+
+import com.example.unittesting.dto.EmployeeImportReport;
+import com.example.unittesting.ingest.EmployeeCsvImporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bulk CSV import. The request body is read as a stream, never buffered whole. If the import stops early the
+ * report comes back with 500 and {@code lastCommittedLine}; re-sending the same file with
+ * {@code resumeAfterLine} set to it continues from there.
+ */
+@RestController
+@RequestMapping("/api/employees/import")
+@RequiredArgsConstructor
+public class EmployeeImportController {
+
+    static final String TEXT_CSV = "text/csv";
+
+    private final EmployeeCsvImporter csvImporter;
+
+    @PostMapping(consumes = TEXT_CSV)
+    public ResponseEntity<EmployeeImportReport> importEmployees(
+            @RequestParam(name = "resumeAfterLine", defaultValue = "0") long resumeAfterLine,
+            InputStream body) throws IOException {
+        EmployeeImportReport report = csvImporter.importCsv(new InputStreamReader(body, StandardCharsets.UTF_8),
+                resumeAfterLine, progress -> {
+                });
+
+        return report.completed()
+                ? ResponseEntity.ok(report)
+                : ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(report);
+    }
+
+    // malformed or incomplete header
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadHeader(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.unittesting.controller;
+
+import com.example.unittesting.dto.EmployeeWriteStatus;
+import com.example.unittesting.exception.ResourceNotFoundException;
+import com.example.unittesting.ingest.EmployeeWriteBehindQueue;
+import com.example.unittesting.model.Employee;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.UUID;
+
+/**
+ * Write-behind creates, enabled with {@code employee.write-behind.enabled=true}. A create is acknowledged with 202
+ * and a tracking id as soon as it is queued; its outcome is read from the status endpoint.
+ */
+@RestController
+@RequestMapping("/api/employees/async")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.write-behind.enabled", havingValue = "true")
+public class EmployeeWriteBehindController {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final EmployeeWriteBehindQueue writeBehindQueue;
+
+    @PostMapping
+    public ResponseEntity<EmployeeWriteStatus> createEmployee(@RequestBody Employee employee) {
+        return writeBehindQueue.submit(employee)
+                .map(status -> ResponseEntity.accepted()
+                        .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                                .path("/{trackingId}")
+                                .buildAndExpand(status.trackingId())
+                                .toUri())
+                        .body(status))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<EmployeeWriteStatus> getWriteStatus(@PathVariable("trackingId") UUID trackingId) {
+        return writeBehindQueue.getStatus(trackingId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee write " + trackingId + " not found"));
+    }
+}
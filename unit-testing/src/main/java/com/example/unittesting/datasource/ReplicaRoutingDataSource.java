@@ -0,0 +1,126 @@
+package com.example.unittesting.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * The decision is made when a connection is first needed, from the transaction's read-only flag, so this must sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; transaction managers that
+ * fetch the connection at begin would otherwise see the flag before it is set.
+ * <p>
+ * For {@code readYourWritesWindow} after any read-write transaction commits, reads stay on the primary as well, so
+ * a client that reads back what it just wrote does not hit a replica that has not caught up yet. The window is
+ * global rather than per client: it trades some replica offload under steady writes for never serving a stale
+ * read within the window.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+
+    private final List<HikariDataSource> replicas;
+
+    private final ReplicaSelection selection;
+
+    private final long readYourWritesWindowNanos;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private volatile long lastWriteNanos;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    ReplicaSelection selection, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+        // start outside the window
+        this.lastWriteNanos = System.nanoTime() - readYourWritesWindowNanos - 1;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(replicaKey(i), this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            return PRIMARY;
+        }
+        if (replicas.isEmpty() || System.nanoTime() - lastWriteNanos < readYourWritesWindowNanos) {
+            return PRIMARY;
+        }
+        return replicaKey(selectReplica());
+    }
+
+    // connections outside a transaction (startup, the lazy proxy probing connection defaults) go to the primary
+    // without opening the window
+    private void recordWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        // the window starts when the write becomes visible, not when its transaction began
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    lastWriteNanos = System.nanoTime();
+                }
+            }
+        });
+    }
+
+    private int selectReplica() {
+        if (selection == ReplicaSelection.ROUND_ROBIN) {
+            return Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        }
+
+        int selected = 0;
+        int fewestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int active = activeConnections(replicas.get(i));
+            if (active < fewestActive) {
+                selected = i;
+                fewestActive = active;
+            }
+        }
+        return selected;
+    }
+
+    // the pool only exists after its first connection
+    private static int activeConnections(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    private static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
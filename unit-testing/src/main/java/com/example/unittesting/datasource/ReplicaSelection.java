@@ -0,0 +1,10 @@
+package com.example.unittesting.datasource;
+
+/**
+ * How {@link ReplicaRoutingDataSource} picks a replica for a read-only transaction.
+ */
+public enum ReplicaSelection {
+    ROUND_ROBIN,
+    // fewest active connections in the replica's pool; ties go to the first replica
+    LEAST_CONNECTIONS
+}
@@ -0,0 +1,20 @@
+package com.example.unittesting.dto;
+
+import com.example.unittesting.model.EmployeeChange;
+
+import java.time.Instant;
+
+/**
+ * A published employee change. {@code seq} increases in publication order. CREATED carries every field; UPDATED
+ * carries the fields that were set, null meaning unchanged, and the version the employee is at after the change;
+ * DELETED carries the id alone.
+ */
+public record EmployeeChangeEvent(long seq, long employeeId, EmployeeChange.Type type, String firstName,
+                                  String lastName, String email, Long version, Instant occurredAt) {
+
+    public static EmployeeChangeEvent of(EmployeeChange change) {
+        return new EmployeeChangeEvent(change.getPublishedSeq(), change.getEmployeeId(), change.getType(),
+                change.getFirstName(), change.getLastName(), change.getEmail(), change.getVersion(),
+                change.getCreatedAt());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.unittesting.dto;
+
+import java.util.List;
+
+/**
+ * One page of the change feed; poll again with {@code since=next}.
+ */
+public record EmployeeChangeFeed(List<EmployeeChangeEvent> changes, long next) {
+}
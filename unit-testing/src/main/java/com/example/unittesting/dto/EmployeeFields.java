@@ -0,0 +1,39 @@
+package com.example.unittesting.dto;
+
+import com.example.unittesting.model.Employee;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Employee fields selectable with {@code ?fields=}. Sparse results are maps holding the requested fields in
+ * request order.
+ */
+public final class EmployeeFields {
+
+    public static final List<String> ALL = List.of("id", "firstName", "lastName", "email", "version");
+
+    private EmployeeFields() {
+    }
+
+    public static boolean areValid(Collection<String> fields) {
+        return !fields.isEmpty() && ALL.containsAll(fields);
+    }
+
+    public static Map<String, Object> select(Employee employee, Collection<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            values.put(field, switch (field) {
+                case "id" -> employee.getId();
+                case "firstName" -> employee.getFirstName();
+                case "lastName" -> employee.getLastName();
+                case "email" -> employee.getEmail();
+                case "version" -> employee.getVersion();
+                default -> throw new IllegalArgumentException("Unknown employee field " + field);
+            });
+        }
+        return values;
+    }
+}
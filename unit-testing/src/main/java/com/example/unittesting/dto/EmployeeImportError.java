@@ -0,0 +1,7 @@
+package com.example.unittesting.dto;
+
+/**
+ * A CSV row that was not imported. {@code line} is the physical line number in the file, header included.
+ */
+public record EmployeeImportError(long line, String message) {
+}
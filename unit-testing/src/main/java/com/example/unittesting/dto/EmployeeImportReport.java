@@ -0,0 +1,17 @@
+package com.example.unittesting.dto;
+
+import java.util.List;
+
+/**
+ * Progress or outcome of a CSV import. Every line up to and including {@code lastCommittedLine} has been either
+ * committed or reported, so an interrupted import resumes with {@code resumeAfterLine = lastCommittedLine}.
+ * {@code failure} is set when the import stopped early.
+ */
+public record EmployeeImportReport(long resumedAfterLine, long lastCommittedLine, long rowsRead, long created,
+                                   long duplicates, long invalid, List<EmployeeImportError> errors,
+                                   boolean errorsTruncated, String failure) {
+
+    public boolean completed() {
+        return failure == null;
+    }
+}
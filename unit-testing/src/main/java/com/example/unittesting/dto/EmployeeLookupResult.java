@@ -0,0 +1,22 @@
+package com.example.unittesting.dto;
+
+import com.example.unittesting.model.Employee;
+
+/**
+ * Outcome of one id of a multi-get, reported in request order; {@code employee} is null when not found.
+ */
+public record EmployeeLookupResult(long id, Status status, Employee employee) {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND
+    }
+
+    public static EmployeeLookupResult found(Employee employee) {
+        return new EmployeeLookupResult(employee.getId(), Status.FOUND, employee);
+    }
+
+    public static EmployeeLookupResult notFound(long id) {
+        return new EmployeeLookupResult(id, Status.NOT_FOUND, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.unittesting.dto;
+
+/**
+ * Partial update of an employee; {@code null} fields are left unchanged.
+ */
+public record EmployeePatch(String firstName, String lastName, String email) {
+
+    public boolean isEmpty() {
+        return firstName == null && lastName == null && email == null;
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.unittesting.dto;
+
+public record EmployeeSearchHit(long id, String firstName, String lastName, String email, double score) {
+}
@@ -0,0 +1,9 @@
+package com.example.unittesting.dto;
+
+import java.util.List;
+
+/**
+ * One page of search results. No total count is computed; {@code hasNext} tells whether another page exists.
+ */
+public record EmployeeSlice(List<EmployeeSummary> content, int page, int size, boolean hasNext) {
+}
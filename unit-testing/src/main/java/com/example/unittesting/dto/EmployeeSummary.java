@@ -0,0 +1,8 @@
+package com.example.unittesting.dto;
+
+/**
+ * Read-only view of an employee for the list and search endpoints. Selected with a JPQL constructor
+ * expression, so rows never become managed entities: no dirty-checking snapshot and nothing to flush.
+ */
+public record EmployeeSummary(long id, String firstName, String lastName, String email) {
+}
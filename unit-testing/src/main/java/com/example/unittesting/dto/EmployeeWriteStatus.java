@@ -0,0 +1,29 @@
+package com.example.unittesting.dto;
+
+import java.util.UUID;
+
+/**
+ * State of a create accepted by the write-behind queue. {@code id} is set once the employee has been written.
+ */
+public record EmployeeWriteStatus(UUID trackingId, State state, Long id) {
+
+    public enum State {
+        QUEUED,
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    public static EmployeeWriteStatus queued(UUID trackingId) {
+        return new EmployeeWriteStatus(trackingId, State.QUEUED, null);
+    }
+
+    public static EmployeeWriteStatus of(UUID trackingId, EmployeeBatchResult result) {
+        return new EmployeeWriteStatus(trackingId, State.valueOf(result.status().name()), result.id());
+    }
+
+    public static EmployeeWriteStatus failed(UUID trackingId) {
+        return new EmployeeWriteStatus(trackingId, State.FAILED, null);
+    }
+}
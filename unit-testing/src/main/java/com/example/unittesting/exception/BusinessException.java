@@ -0,0 +1,13 @@
+package com.example.unittesting.exception;
+
+/**
+ * Base of the expected, client-caused failures such as unknown ids and duplicate emails. They are part of normal
+ * traffic, so they are created without a stack trace: filling one in walks every frame of the request thread, and
+ * the handler that turns them into problem responses never reads it. A cause, if given, keeps its own trace.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
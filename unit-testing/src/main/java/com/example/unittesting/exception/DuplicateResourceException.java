@@ -0,0 +1,11 @@
+package com.example.unittesting.exception;
+
+public class DuplicateResourceException extends BusinessException {
+    public DuplicateResourceException(String message) {
+        super(message, null);
+    }
+
+    public DuplicateResourceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
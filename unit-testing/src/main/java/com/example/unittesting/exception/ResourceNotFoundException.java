@@ -1,8 +1,8 @@
 package com.example.unittesting.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends BusinessException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null);
     }
 
     public ResourceNotFoundException(String message, Throwable cause) {
@@ -0,0 +1,72 @@
+package com.example.unittesting.ingest;
+
+import com.example.unittesting.dto.EmployeeImportReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Imports a CSV file at startup, e.g.
+ * {@code java -jar app.jar --employee.import.file=employees.csv --spring.main.web-application-type=none}.
+ * <p>
+ * The last committed line is checkpointed next to the file ({@code employees.csv.checkpoint}) after every chunk, so
+ * running the same command after a failure resumes where it stopped. The checkpoint is removed once the import
+ * completes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.import.file")
+public class EmployeeCsvImportRunner implements CommandLineRunner {
+
+    private final EmployeeCsvImporter csvImporter;
+
+    @Value("${employee.import.file}")
+    private Path file;
+
+    @Override
+    public void run(String... args) throws IOException {
+        Path checkpoint = file.resolveSibling(file.getFileName() + ".checkpoint");
+        long resumeAfterLine = Files.exists(checkpoint) ? Long.parseLong(Files.readString(checkpoint).strip()) : 0;
+        if (resumeAfterLine > 0) {
+            log.info("Resuming import of {} after line {}", file, resumeAfterLine);
+        }
+
+        EmployeeImportReport report;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            report = csvImporter.importCsv(reader, resumeAfterLine, progress -> writeCheckpoint(checkpoint, progress));
+        }
+        report.errors().forEach(error -> log.warn("{} line {}: {}", file, error.line(), error.message()));
+
+        if (!report.completed()) {
+            writeCheckpoint(checkpoint, report);
+            throw new IllegalStateException("Import of " + file + " failed after line " + report.lastCommittedLine()
+                    + " (" + report.failure() + "); run again to resume");
+        }
+        Files.deleteIfExists(checkpoint);
+        log.info("Imported {}: {} created, {} duplicates, {} invalid", file, report.created(), report.duplicates(),
+                report.invalid());
+    }
+
+    private static void writeCheckpoint(Path checkpoint, EmployeeImportReport progress) {
+        try {
+            // write-then-rename so a crash never leaves a torn checkpoint
+            Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            Files.writeString(temp, Long.toString(progress.lastCommittedLine()));
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.unittesting.ingest;
+
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeImportError;
+import com.example.unittesting.dto.EmployeeImportReport;
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.service.EmployeeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Imports employees from CSV with a {@code firstName,lastName,email} header (any column order, {@code first_name}
+ * style names accepted). Quoted fields may contain commas and doubled quotes, but not line breaks.
+ * <p>
+ * The source is read sequentially in chunks of {@code chunk-size} lines. Each chunk is parsed and validated in
+ * parallel while the previous one is being written, and its rows go through {@link EmployeeService#saveEmployees}
+ * in transactions of at most {@code rows-per-transaction}. Emails repeated within the file are rejected from an
+ * in-memory set; emails already in the table are rejected by {@code saveEmployees}.
+ * <p>
+ * After every transaction the report's {@code lastCommittedLine} advances, and the progress listener is called once
+ * per chunk. An import that stops early returns the report with {@code failure} set; passing its
+ * {@code lastCommittedLine} as {@code resumeAfterLine} continues where it stopped.
+ */
+@Slf4j
+@Component
+public class EmployeeCsvImporter {
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final EmployeeService employeeService;
+
+    private final int chunkSize;
+
+    private final int rowsPerTransaction;
+
+    private final int maxReportedErrors;
+
+    public EmployeeCsvImporter(EmployeeService employeeService,
+                               @Value("${employee.import.chunk-size:5000}") int chunkSize,
+                               @Value("${employee.import.rows-per-transaction:1000}") int rowsPerTransaction,
+                               @Value("${employee.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.employeeService = employeeService;
+        this.chunkSize = chunkSize;
+        this.rowsPerTransaction = rowsPerTransaction;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Imports every line after {@code resumeAfterLine} (a physical line number, 0 or 1 for a fresh import).
+     *
+     * @throws IllegalArgumentException if the header is missing or lacks a required column
+     */
+    public EmployeeImportReport importCsv(Reader source, long resumeAfterLine,
+                                          Consumer<EmployeeImportReport> progressListener) throws IOException {
+        BufferedReader reader = new BufferedReader(source, READ_BUFFER_SIZE);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        Columns columns = Columns.of(header);
+
+        long lineNumber = 1;
+        while (lineNumber < resumeAfterLine && reader.readLine() != null) {
+            lineNumber++;
+        }
+
+        Progress progress = new Progress(Math.max(resumeAfterLine, 1), maxReportedErrors);
+        try {
+            Chunk chunk = readChunk(reader, lineNumber);
+            CompletableFuture<List<ParsedRow>> parsing = parseAsync(chunk, columns);
+            while (!chunk.lines().isEmpty()) {
+                // parse the next chunk while this one is written
+                Chunk next = readChunk(reader, chunk.lastLine());
+                CompletableFuture<List<ParsedRow>> nextParsing = parseAsync(next, columns);
+
+                write(join(parsing), chunk.lastLine(), progress);
+                progressListener.accept(progress.report(null));
+                log.info("Imported employees up to line {}: {} created, {} duplicates, {} invalid",
+                        progress.lastCommittedLine, progress.created, progress.duplicates, progress.invalid);
+
+                chunk = next;
+                parsing = nextParsing;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Employee import stopped after line {}", progress.lastCommittedLine, e);
+            return progress.report(e.toString());
+        }
+        return progress.report(null);
+    }
+
+    private Chunk readChunk(BufferedReader reader, long previousLine) throws IOException {
+        List<String> lines = new ArrayList<>(chunkSize);
+        String line;
+        while (lines.size() < chunkSize && (line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return new Chunk(previousLine + 1, lines);
+    }
+
+    private static CompletableFuture<List<ParsedRow>> parseAsync(Chunk chunk, Columns columns) {
+        return CompletableFuture.supplyAsync(() -> IntStream.range(0, chunk.lines().size())
+                .parallel()
+                .mapToObj(offset -> parse(chunk.firstLine() + offset, chunk.lines().get(offset), columns))
+                .toList());
+    }
+
+    private static List<ParsedRow> join(CompletableFuture<List<ParsedRow>> parsing) {
+        try {
+            return parsing.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    static ParsedRow parse(long line, String text, Columns columns) {
+        if (text.isBlank()) {
+            return new ParsedRow(line, null, null);
+        }
+
+        List<String> fields;
+        try {
+            fields = splitFields(text);
+        } catch (IllegalArgumentException e) {
+            return new ParsedRow(line, null, e.getMessage());
+        }
+        if (fields.size() != columns.count()) {
+            return new ParsedRow(line, null, "expected " + columns.count() + " fields but found " + fields.size());
+        }
+
+        Employee employee = Employee.builder()
+                .firstName(fields.get(columns.firstName()))
+                .lastName(fields.get(columns.lastName()))
+                .email(fields.get(columns.email()))
+                .build();
+        if (employee.getFirstName().isEmpty() || employee.getLastName().isEmpty() || employee.getEmail().isEmpty()) {
+            return new ParsedRow(line, null, "firstName, lastName and email are required");
+        }
+        return new ParsedRow(line, employee, null);
+    }
+
+    static List<String> splitFields(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().strip());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString().strip());
+        return fields;
+    }
+
+    private void write(List<ParsedRow> rows, long chunkLastLine, Progress progress) {
+        List<ParsedRow> batch = new ArrayList<>(rowsPerTransaction);
+        for (ParsedRow row : rows) {
+            if (row.error() != null) {
+                progress.invalid(row.line(), row.error());
+            } else if (row.employee() == null) {
+                continue;
+            } else if (!progress.seenEmails.add(row.employee().getEmail().toLowerCase(Locale.ROOT))) {
+                progress.duplicate(row.line(), "email appears earlier in the file");
+            } else {
+                batch.add(row);
+                if (batch.size() == rowsPerTransaction) {
+                    commit(batch, progress);
+                    batch.clear();
+                }
+            }
+        }
+        commit(batch, progress);
+        progress.lastCommittedLine = chunkLastLine;
+    }
+
+    private void commit(List<ParsedRow> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<EmployeeBatchResult> results = employeeService.saveEmployees(batch.stream().map(ParsedRow::employee).toList());
+        for (EmployeeBatchResult result : results) {
+            long line = batch.get(result.index()).line();
+            switch (result.status()) {
+                case CREATED -> progress.created++;
+                case DUPLICATE -> progress.duplicate(line, "email already exists");
+                case INVALID -> progress.invalid(line, "firstName, lastName and email are required");
+            }
+        }
+        progress.lastCommittedLine = batch.get(batch.size() - 1).line();
+    }
+
+    record Columns(int count, int firstName, int lastName, int email) {
+
+        static Columns of(String header) {
+            List<String> names = splitFields(header).stream()
+                    .map(name -> name.replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT))
+                    .toList();
+            return new Columns(names.size(), indexOf(names, "firstname"), indexOf(names, "lastname"), indexOf(names, "email"));
+        }
+
+        private static int indexOf(List<String> names, String name) {
+            int index = names.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("CSV header has no " + name + " column");
+            }
+            return index;
+        }
+    }
+
+    record ParsedRow(long line, Employee employee, String error) {
+    }
+
+    private record Chunk(long firstLine, List<String> lines) {
+
+        long lastLine() {
+            return firstLine + lines.size() - 1;
+        }
+    }
+
+    private static final class Progress {
+
+        private final long resumedAfterLine;
+
+        private final int maxReportedErrors;
+
+        // lowercased, as the unique index compares emails case-insensitively on MySQL
+        private final Set<String> seenEmails = new HashSet<>();
+
+        private final List<EmployeeImportError> errors = new ArrayList<>();
+
+        private long lastCommittedLine;
+
+        private long created;
+
+        private long duplicates;
+
+        private long invalid;
+
+        private boolean errorsTruncated;
+
+        Progress(long resumedAfterLine, int maxReportedErrors) {
+            this.resumedAfterLine = resumedAfterLine;
+            this.lastCommittedLine = resumedAfterLine;
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void duplicate(long line, String message) {
+            duplicates++;
+            error(line, message);
+        }
+
+        void invalid(long line, String message) {
+            invalid++;
+            error(line, message);
+        }
+
+        private void error(long line, String message) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new EmployeeImportError(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        EmployeeImportReport report(String failure) {
+            return new EmployeeImportReport(resumedAfterLine, lastCommittedLine,
+                    lastCommittedLine - resumedAfterLine, created, duplicates, invalid,
+                    List.copyOf(errors), errorsTruncated, failure);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.unittesting.ingest;
+
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeWriteStatus;
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.service.EmployeeService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for employee creates.
+ * <p>
+ * Creates are accepted into a bounded queue and acknowledged with a tracking id. A single drainer thread coalesces
+ * them into {@link EmployeeService#saveEmployees} batches of up to {@code batch-size} rows, waiting at most
+ * {@code linger} for a batch to fill. When the queue is full {@link #submit} refuses instead of blocking, and
+ * whatever is still queued at shutdown is written before the context closes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.write-behind.enabled", havingValue = "true")
+public class EmployeeWriteBehindQueue implements SmartLifecycle, MeterBinder {
+
+    // lower than the web server lifecycles: started before requests arrive, stopped after they have stopped
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+    private final EmployeeService employeeService;
+
+    private final BlockingQueue<PendingCreate> queue;
+
+    private final Cache<UUID, EmployeeWriteStatus> statuses;
+
+    private final int batchSize;
+
+    private final long lingerNanos;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile boolean accepting = true;
+
+    private volatile boolean running;
+
+    private Thread drainer;
+
+    public EmployeeWriteBehindQueue(EmployeeService employeeService,
+                                    @Value("${employee.write-behind.capacity:10000}") int capacity,
+                                    @Value("${employee.write-behind.batch-size:500}") int batchSize,
+                                    @Value("${employee.write-behind.linger:50ms}") Duration linger,
+                                    @Value("${employee.write-behind.status-retention:10m}") Duration statusRetention,
+                                    @Value("${employee.write-behind.status-maximum-size:100000}") long statusMaximumSize) {
+        this.employeeService = employeeService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        // bounded by count as well as age: a burst of accepted creates must not grow the heap for the whole retention
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(statusMaximumSize)
+                .expireAfterWrite(statusRetention)
+                .build();
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+    }
+
+    /**
+     * Queues the employee for creation, or returns empty if the queue is full or shutting down.
+     */
+    public Optional<EmployeeWriteStatus> submit(Employee employee) {
+        PendingCreate pending = new PendingCreate(UUID.randomUUID(), employee);
+        if (!accepting || !queue.offer(pending)) {
+            rejected.incrementAndGet();
+            return Optional.empty();
+        }
+        // lost a race with stop(): the drainer may already have taken its last batch
+        if (!accepting && queue.remove(pending)) {
+            rejected.incrementAndGet();
+            return Optional.empty();
+        }
+
+        EmployeeWriteStatus status = EmployeeWriteStatus.queued(pending.trackingId());
+        statuses.asMap().putIfAbsent(pending.trackingId(), status);
+        return Optional.of(status);
+    }
+
+    public Optional<EmployeeWriteStatus> getStatus(UUID trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        accepting = true;
+        running = true;
+        drainer = new Thread(this::drain, "employee-write-behind");
+        drainer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        accepting = false;
+        running = false;
+        try {
+            drainer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Write-behind queue stopped with {} employees not written", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.write-behind.queue.size", queue, BlockingQueue::size)
+                .description("Creates accepted but not yet written")
+                .register(registry);
+        FunctionCounter.builder("employee.write-behind.rejected", rejected, AtomicLong::get)
+                .description("Creates refused because the queue was full or shutting down")
+                .register(registry);
+    }
+
+    private void drain() {
+        List<PendingCreate> batch = new ArrayList<>(batchSize);
+        // keep going after stop() until everything accepted has been written
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch, System.nanoTime() + lingerNanos);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<PendingCreate> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            // no point lingering for more rows once shutdown has started
+            if (batch.size() == batchSize || remaining <= 0 || !running) {
+                return;
+            }
+
+            PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingCreate> batch) {
+        List<Employee> employees = batch.stream().map(PendingCreate::employee).toList();
+        try {
+            for (EmployeeBatchResult result : employeeService.saveEmployees(employees)) {
+                UUID trackingId = batch.get(result.index()).trackingId();
+                statuses.put(trackingId, EmployeeWriteStatus.of(trackingId, result));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.warn("Write-behind create failed", e);
+                statuses.put(batch.get(0).trackingId(), EmployeeWriteStatus.failed(batch.get(0).trackingId()));
+                return;
+            }
+
+            // one bad row, e.g. an email taken by a concurrent synchronous create, must not fail every create
+            // coalesced with it: each row gets its own transaction and only the failing ones end up FAILED
+            log.warn("Write-behind batch of {} employees failed, retrying them one by one", batch.size(), e);
+            batch.forEach(pending -> write(List.of(pending.retry())));
+        }
+    }
+
+    private record PendingCreate(UUID trackingId, Employee employee) {
+
+        // the rolled-back attempt has already assigned an id and version to the entity
+        PendingCreate retry() {
+            return new PendingCreate(trackingId, employee.toBuilder().id(0).version(0).build());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.unittesting.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Records how many entities the request-scoped (open-in-view) persistence context holds once the handler
+ * has run. Reading the count is a map size lookup, so this is safe to leave on under load.
+ */
+public class PersistenceContextMetricsInterceptor implements HandlerInterceptor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final DistributionSummary managedEntities;
+
+    public PersistenceContextMetricsInterceptor(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.managedEntities = DistributionSummary.builder("hibernate.persistence.context.entities")
+                .description("Entities managed by the persistence context at the end of a request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (TransactionSynchronizationManager.getResource(entityManagerFactory) instanceof EntityManagerHolder holder) {
+            managedEntities.record(holder.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+        }
+    }
+}
@@ -3,18 +3,33 @@ package com.example.unittesting.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Setter
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Builder
-@Table(name = "employee")
+@DynamicUpdate
+// second-level cached by id; the region's size and expiry are set in HibernateCacheConfiguration
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
+@Builder(toBuilder = true)
+@Table(name = "employee",
+        uniqueConstraints = @UniqueConstraint(name = Employee.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        indexes = @Index(name = "idx_employee_last_first", columnList = "last_name, first_name"))
 @ToString
 public class Employee {
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employee_email";
+    public static final String CACHE_REGION = "employee";
+    public static final String QUERY_CACHE_REGION = "employee-queries";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence (a table on MySQL) so Hibernate can batch inserts; IDENTITY disables JDBC batching
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50)
     private long id;
 
     @Column(name = "first_name", nullable = false)
@@ -24,4 +39,9 @@ public class Employee {
 
     @Column(name = "email", nullable = false)
     private String email;
+
+    // optimistic lock; also the strong ETag of /api/employees/{id}
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 }
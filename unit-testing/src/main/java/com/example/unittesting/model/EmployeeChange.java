@@ -0,0 +1,58 @@
+package com.example.unittesting.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Outbox row for one employee mutation, written in the transaction that made the change.
+ * {@code publishedSeq} stays null until the relay publishes the row, then orders the change feed.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Builder
+@Table(name = "employee_change",
+        indexes = @Index(name = "idx_employee_change_published", columnList = "published_seq", unique = true))
+@ToString
+public class EmployeeChange {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_change_seq")
+    @SequenceGenerator(name = "employee_change_seq", sequenceName = "employee_change_seq", allocationSize = 50)
+    private long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private Type type;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "published_seq")
+    private Long publishedSeq;
+}
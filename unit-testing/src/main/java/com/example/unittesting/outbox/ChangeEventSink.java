@@ -0,0 +1,14 @@
+package com.example.unittesting.outbox;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+
+import java.util.List;
+
+/**
+ * Destination of published employee changes. Delivery is at least once: a batch whose transaction fails after
+ * {@link #publish} is published again, with the same sequence numbers.
+ */
+public interface ChangeEventSink {
+
+    void publish(List<EmployeeChangeEvent> events);
+}
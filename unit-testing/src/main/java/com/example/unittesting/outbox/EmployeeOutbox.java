@@ -0,0 +1,81 @@
+package com.example.unittesting.outbox;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import com.example.unittesting.dto.EmployeeChangeFeed;
+import com.example.unittesting.dto.EmployeePatch;
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.model.EmployeeChange;
+import com.example.unittesting.repository.EmployeeChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Records employee changes in the {@code employee_change} outbox and serves the published ones as a feed.
+ * <p>
+ * The record methods join the caller's transaction and refuse to run without one, so a change is in the outbox
+ * exactly when the mutation it describes commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeOutbox {
+
+    static final int MAX_FEED_SIZE = 1000;
+
+    private final EmployeeChangeRepository changeRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void created(Employee employee) {
+        changeRepository.save(change(EmployeeChange.Type.CREATED, employee.getId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .version(employee.getVersion())
+                .build());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updated(Employee employee) {
+        changeRepository.save(change(EmployeeChange.Type.UPDATED, employee.getId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .version(employee.getVersion())
+                .build());
+    }
+
+    // a patch is applied without loading the row, so only the patched fields and the new version are known
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void patched(long id, EmployeePatch patch, long version) {
+        changeRepository.save(change(EmployeeChange.Type.UPDATED, id)
+                .firstName(patch.firstName())
+                .lastName(patch.lastName())
+                .email(patch.email())
+                .version(version)
+                .build());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleted(long id) {
+        changeRepository.save(change(EmployeeChange.Type.DELETED, id).build());
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeChangeFeed changesSince(long since, int limit) {
+        List<EmployeeChangeEvent> changes = changeRepository.findEventsPublishedAfter(since,
+                Limit.of(Math.min(Math.max(limit, 1), MAX_FEED_SIZE)));
+        return new EmployeeChangeFeed(changes, changes.isEmpty() ? since : changes.get(changes.size() - 1).seq());
+    }
+
+    private EmployeeChange.EmployeeChangeBuilder change(EmployeeChange.Type type, long employeeId) {
+        return EmployeeChange.builder()
+                .type(type)
+                .employeeId(employeeId)
+                .createdAt(Instant.now());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.unittesting.outbox;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import com.example.unittesting.model.EmployeeChange;
+import com.example.unittesting.repository.EmployeeChangeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves outbox rows to the {@link ChangeEventSink} in batches of up to {@code batch-size}, oldest first.
+ * <p>
+ * Each batch is numbered, published and marked in one transaction, so a failed publish is retried with the same
+ * rows on the next run. Numbers are assigned here rather than when the change is written: changes commit out of
+ * id order, but publication happens after commit, so the feed never has a later change become visible behind a
+ * consumer's {@code since}. This assumes one relay per database: set {@code employee.outbox.relay.enabled=false}
+ * on every instance but one.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeOutboxRelay implements MeterBinder, SchedulingConfigurer {
+
+    private final EmployeeChangeRepository changeRepository;
+
+    private final ChangeEventSink sink;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final Duration retention;
+
+    private final Duration relayInterval;
+
+    private final Duration cleanupInterval;
+
+    private final AtomicLong published = new AtomicLong();
+
+    public EmployeeOutboxRelay(EmployeeChangeRepository changeRepository, ChangeEventSink sink,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${employee.outbox.batch-size:500}") int batchSize,
+                               @Value("${employee.outbox.retention:7d}") Duration retention,
+                               @Value("${employee.outbox.relay-interval:200ms}") Duration relayInterval,
+                               @Value("${employee.outbox.cleanup-interval:1h}") Duration cleanupInterval) {
+        this.changeRepository = changeRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.relayInterval = relayInterval;
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    // registered here rather than with @Scheduled, whose delay strings take no unit suffixes like 200ms
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::relay, relayInterval);
+        taskRegistrar.addFixedDelayTask(this::deleteExpired, cleanupInterval);
+    }
+
+    public void relay() {
+        try {
+            // keep going while batches come back full
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Relaying employee changes failed, retrying on the next run", e);
+        }
+    }
+
+    int relayBatch() {
+        List<EmployeeChange> changes = changeRepository.findByPublishedSeqIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        long seq = changeRepository.findMaxPublishedSeq();
+        for (EmployeeChange change : changes) {
+            change.setPublishedSeq(++seq);
+        }
+        sink.publish(changes.stream().map(EmployeeChangeEvent::of).toList());
+        published.addAndGet(changes.size());
+        return changes.size();
+    }
+
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                changeRepository.deletePublishedBefore(Instant.now().minus(retention)));
+        log.debug("Deleted {} published employee changes older than {}", deleted, retention);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.outbox.published", published, AtomicLong::get)
+                .description("Employee changes handed to the change event sink")
+                .register(registry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.unittesting.outbox;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends published changes to a file as NDJSON, one batch per write.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.outbox.sink", havingValue = "file")
+public class FileChangeEventSink implements ChangeEventSink {
+
+    private final ObjectWriter writer;
+
+    private final Path file;
+
+    public FileChangeEventSink(ObjectMapper objectMapper,
+                               @Value("${employee.outbox.file.path:employee-changes.ndjson}") Path file) {
+        this.writer = objectMapper.writerFor(EmployeeChangeEvent.class);
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void publish(List<EmployeeChangeEvent> events) {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (EmployeeChangeEvent event : events) {
+                out.write(writer.writeValueAsString(event));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
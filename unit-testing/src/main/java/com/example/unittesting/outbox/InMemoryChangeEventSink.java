@@ -0,0 +1,40 @@
+package com.example.unittesting.outbox;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recent published changes in memory; the default sink, for local runs and tests.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryChangeEventSink implements ChangeEventSink {
+
+    private final Deque<EmployeeChangeEvent> events = new ArrayDeque<>();
+
+    private final int capacity;
+
+    public InMemoryChangeEventSink(@Value("${employee.outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<EmployeeChangeEvent> batch) {
+        for (EmployeeChangeEvent event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    public synchronized List<EmployeeChangeEvent> recentEvents() {
+        return List.copyOf(events);
+    }
+}
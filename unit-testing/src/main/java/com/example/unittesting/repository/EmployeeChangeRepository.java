@@ -0,0 +1,30 @@
+package com.example.unittesting.repository;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import com.example.unittesting.model.EmployeeChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+
+    List<EmployeeChange> findByPublishedSeqIsNullOrderByIdAsc(Limit limit);
+
+    // served from the top of idx_employee_change_published
+    @Query("select coalesce(max(c.publishedSeq), 0) from EmployeeChange c")
+    long findMaxPublishedSeq();
+
+    @Query("select new com.example.unittesting.dto.EmployeeChangeEvent(c.publishedSeq, c.employeeId, c.type, " +
+            "c.firstName, c.lastName, c.email, c.version, c.createdAt) " +
+            "from EmployeeChange c where c.publishedSeq > :since order by c.publishedSeq")
+    List<EmployeeChangeEvent> findEventsPublishedAfter(@Param("since") long since, Limit limit);
+
+    @Modifying
+    @Query("delete from EmployeeChange c where c.publishedSeq is not null and c.createdAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -1,27 +1,104 @@
 package com.example.unittesting.repository;
 
+import com.example.unittesting.dto.EmployeeSummary;
 import com.example.unittesting.model.Employee;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+    // lookups below hand back entities only to be read: loading them read-only skips the dirty-checking snapshot.
+    // the email and JPQL name lookups are also query-cached: Hibernate keeps the matching ids, resolves them
+    // through the entity cache, and drops the results whenever the employee table is written
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Employee.QUERY_CACHE_REGION)
+    })
     Optional<Employee> findByEmail(String email);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select e from Employee e where e.id in :ids")
+    List<Employee> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // list and search reads select only the response columns into EmployeeSummary records
+    @Query("select new com.example.unittesting.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email) from Employee e")
+    List<EmployeeSummary> findAllSummaries();
+
+    // keyset pagination: seeks on the primary key index instead of scanning an OFFSET
+    @Query("select new com.example.unittesting.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email) " +
+            "from Employee e where e.id > :id order by e.id")
+    List<EmployeeSummary> findSummariesByIdGreaterThan(@Param("id") long id, Limit limit);
+
+    // conditional GETs compare ETags against this one column instead of loading the row
+    @Query("select e.version from Employee e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Employee e where e.id in :ids")
+    List<Long> findExistingIdsForUpdate(@Param("ids") Collection<Long> ids);
+
     // define custom query using JPQL with index parameters
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Employee.QUERY_CACHE_REGION)
+    })
     @Query("select e from Employee e where e.firstName = ?1 and e.lastName = ?2")
-    Employee findByJPQLIndex(String firstName, String lastName);
+    List<Employee> findByJPQLIndex(String firstName, String lastName);
 
     // define custom query using JPQL with name parameters
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Employee.QUERY_CACHE_REGION)
+    })
     @Query("select e from Employee e where e.firstName =:firstName and e.lastName =:lastName")
-    Employee findByJPQLNamed(@Param("firstName") String firstName, @Param("lastName") String lastName);
+    List<Employee> findByJPQLNamed(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query(value = "select * from employee e where e.first_name = ?1 and e.last_name=?2", nativeQuery = true)
-    Employee findByNativeSQLIndexedParam(String firstName, String lastName);
+    List<Employee> findByNativeSQLIndexedParam(String firstName, String lastName);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query(value = "select * from employee e where e.first_name = :firstName and e.last_name= :lastName", nativeQuery = true)
-    Employee findByNativeSQLNamedParam(@Param("firstName") String firstName, @Param("lastName") String lastName);
+    List<Employee> findByNativeSQLNamedParam(@Param("firstName") String firstName, @Param("lastName") String lastName);
+
+    // name searches below all lead with last_name so they range-scan idx_employee_last_first;
+    // prefixes become an escaped "like 'prefix%'", which the index can still serve
+    @Query("select new com.example.unittesting.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email) " +
+            "from Employee e where e.lastName = :lastName")
+    Slice<EmployeeSummary> findSummariesByLastName(@Param("lastName") String lastName, Pageable pageable);
+
+    @Query("select new com.example.unittesting.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email) " +
+            "from Employee e where e.lastName like :#{escape(#lastNamePrefix)}% escape :#{escapeCharacter()}")
+    Slice<EmployeeSummary> findSummariesByLastNameStartingWith(@Param("lastNamePrefix") String lastNamePrefix, Pageable pageable);
+
+    @Query("select new com.example.unittesting.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email) " +
+            "from Employee e where e.lastName = :lastName and e.firstName = :firstName")
+    Slice<EmployeeSummary> findSummariesByLastNameAndFirstName(@Param("lastName") String lastName,
+                                                              @Param("firstName") String firstName, Pageable pageable);
+
+    @Query("select new com.example.unittesting.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email) " +
+            "from Employee e where e.lastName = :lastName " +
+            "and e.firstName like :#{escape(#firstNamePrefix)}% escape :#{escapeCharacter()}")
+    Slice<EmployeeSummary> findSummariesByLastNameAndFirstNameStartingWith(@Param("lastName") String lastName,
+                                                                          @Param("firstNamePrefix") String firstNamePrefix,
+                                                                          Pageable pageable);
 }
@@ -0,0 +1,38 @@
+package com.example.unittesting.repository;
+
+import com.example.unittesting.model.Employee;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Selects only the given {@link com.example.unittesting.dto.EmployeeFields} columns of every employee.
+     */
+    List<Map<String, Object>> findAllFields(List<String> fields);
+
+    /**
+     * Every employee in id order over a server-side cursor (with MySQL this needs {@code useCursorFetch=true} on
+     * the JDBC url), neither read from nor put into the second-level cache. Must be consumed inside a transaction
+     * and closed.
+     */
+    Stream<Employee> streamAllByOrderByIdAsc();
+
+    /**
+     * Single UPDATE without loading the entity; {@code null} arguments keep the current column value, and at least
+     * one argument must be non-null. Bumps the version explicitly, since the statement bypasses {@code @Version}.
+     *
+     * @return the number of updated rows, 0 or 1
+     */
+    int patchById(long id, String firstName, String lastName, String email);
+
+    /**
+     * {@code DELETE ... WHERE id = ?} without the findById + em.remove that deleteById does.
+     */
+    int deleteEmployeeById(long id);
+
+    int deleteEmployeesByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,145 @@
+package com.example.unittesting.repository;
+
+import com.example.unittesting.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    // a query space no entity maps to: Hibernate then leaves every cache region alone after the statement
+    private static final String UNMAPPED_QUERY_SPACE = "employee-by-id";
+
+    private final EntityManager entityManager;
+
+    // the select list is built from the requested fields, so unrequested columns are never read or transferred
+    @Override
+    public List<Map<String, Object>> findAllFields(List<String> fields) {
+        CriteriaQuery<Tuple> query = entityManager.getCriteriaBuilder().createTupleQuery();
+        Root<Employee> employee = query.from(Employee.class);
+        query.multiselect(fields.stream().<Selection<?>>map(field -> employee.get(field).alias(field)).toList());
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> values = new LinkedHashMap<>();
+                    fields.forEach(field -> values.put(field, tuple.get(field)));
+                    return values;
+                })
+                .toList();
+    }
+
+    // a cache-mode query hint only holds while the query executes, but a stream loads its rows as it is consumed:
+    // the session's cache mode is switched until the stream is closed, so a full scan cannot evict hot employees
+    @Override
+    public Stream<Employee> streamAllByOrderByIdAsc() {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try {
+            return entityManager.createQuery("select e from Employee e order by e.id", Employee.class)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream()
+                    .onClose(() -> session.setCacheMode(cacheMode));
+        } catch (RuntimeException e) {
+            session.setCacheMode(cacheMode);
+            throw e;
+        }
+    }
+
+    // only the given columns are assigned, so an unchanged column is neither rewritten nor sent as a parameter
+    @Override
+    public int patchById(long id, String firstName, String lastName, String email) {
+        Map<String, String> assignments = new LinkedHashMap<>();
+        if (firstName != null) {
+            assignments.put("first_name", firstName);
+        }
+        if (lastName != null) {
+            assignments.put("last_name", lastName);
+        }
+        if (email != null) {
+            assignments.put("email", email);
+        }
+        if (assignments.isEmpty()) {
+            throw new IllegalArgumentException("A patch must set at least one of firstName, lastName and email");
+        }
+
+        StringJoiner sql = new StringJoiner(", ", "update employee set ", ", version = version + 1 where id = :id");
+        assignments.keySet().forEach(column -> sql.add(column + " = :" + column));
+        NativeQuery<?> update = nativeStatement(sql.toString()).setParameter("id", id);
+        assignments.forEach(update::setParameter);
+        return executeForIds(update, List.of(id));
+    }
+
+    @Override
+    public int deleteEmployeeById(long id) {
+        return executeForIds(nativeStatement("delete from employee where id = :id").setParameter("id", id), List.of(id));
+    }
+
+    @Override
+    public int deleteEmployeesByIdIn(Collection<Long> ids) {
+        return executeForIds(nativeStatement("delete from employee where id in (:ids)").setParameterList("ids", ids), ids);
+    }
+
+    private NativeQuery<?> nativeStatement(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(UNMAPPED_QUERY_SPACE);
+    }
+
+    /**
+     * Runs an UPDATE or DELETE of the given employees with the cache bookkeeping Hibernate does for an entity
+     * write, instead of what it does for any HQL bulk statement: dropping the whole employee region. The affected
+     * entries are soft-locked until the transaction completes, so a concurrent load cannot re-cache the old row,
+     * and the employee table's timestamp is bumped so cached query results over it are discarded.
+     * <p>
+     * Like {@code @Modifying(flushAutomatically = true, clearAutomatically = true)}, pending changes are flushed
+     * first and the persistence context is cleared after.
+     */
+    private int executeForIds(NativeQuery<?> statement, Collection<Long> ids) {
+        entityManager.flush();
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Employee.class);
+        String[] querySpaces = Arrays.copyOf(persister.getQuerySpaces(), persister.getQuerySpaces().length, String[].class);
+        TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+
+        Map<Object, SoftLock> locks = new LinkedHashMap<>();
+        if (persister.canWriteToCache()) {
+            EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+            for (Long id : ids) {
+                Object key = cacheAccess.generateCacheKey(id, persister, session.getFactory(), session.getTenantIdentifier());
+                locks.put(key, cacheAccess.lockItem(session, key, null));
+            }
+        }
+        timestampsCache.preInvalidate(querySpaces, session);
+        session.getActionQueue().registerProcess((success, completedSession) -> {
+            locks.forEach((key, lock) -> persister.getCacheAccessStrategy().unlockItem(completedSession, key, lock));
+            timestampsCache.invalidate(querySpaces, completedSession);
+        });
+
+        int rows = statement.executeUpdate();
+        entityManager.clear();
+        return rows;
+    }
+}
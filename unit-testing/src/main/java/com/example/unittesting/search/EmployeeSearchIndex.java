@@ -0,0 +1,373 @@
+package com.example.unittesting.search;
+
+import com.example.unittesting.dto.EmployeeSearchHit;
+import com.example.unittesting.model.Employee;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over employee first name, last name and email, for type-ahead search.
+ * <p>
+ * Trigrams only select candidates; candidates are then ranked per query token against the employee's
+ * tokens by restricted Damerau-Levenshtein distance, so both prefixes ("jo") and typos ("jhon") match.
+ * Reads are lock-free; writes are serialized, which is fine for the write rate of this table.
+ * <p>
+ * Postings are sorted {@code long[]} ids. Ids only leave them when the postings are compacted: a removed or
+ * re-indexed employee leaves stale entries behind, which the document map filters out at read time.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int MAX_CANDIDATES = 200;
+
+    private static final double MIN_SCORE = 0.5;
+
+    private volatile Segment segment = new Segment();
+
+    // changes made while a rebuild is loading, replayed onto the rebuilt segment before it is swapped in
+    private List<Consumer<Segment>> changesDuringRebuild;
+
+    public synchronized void index(Employee employee) {
+        Document document = new Document(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail());
+        apply(target -> target.index(document));
+    }
+
+    public synchronized void patch(long id, String firstName, String lastName, String email) {
+        apply(target -> target.patch(id, firstName, lastName, email));
+    }
+
+    public synchronized void remove(long id) {
+        apply(target -> target.remove(id));
+    }
+
+    /**
+     * Replaces the index with the employees {@code source} hands to its consumer, in ascending id order for the
+     * cheapest build. Searches keep using the current index until the new one is complete; changes made meanwhile
+     * are applied to both.
+     */
+    public void rebuild(Consumer<Consumer<Employee>> source) {
+        synchronized (this) {
+            if (changesDuringRebuild != null) {
+                throw new IllegalStateException("Search index rebuild already running");
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Segment rebuilt = new Segment();
+            source.accept(employee -> rebuilt.index(
+                    new Document(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail())));
+            synchronized (this) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                segment = rebuilt;
+            }
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    public int size() {
+        return segment.documents.size();
+    }
+
+    public List<EmployeeSearchHit> search(String query, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Segment current = segment;
+        Map<String, Postings> postings = current.postings;
+        // rarest trigrams first; very common ones (think "com") add little signal and cost the most to scan
+        List<Postings> postingLists = grams(queryTokens).stream()
+                .map(postings::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingInt(Postings::size))
+                .toList();
+        if (postingLists.isEmpty()) {
+            return List.of();
+        }
+
+        // bounds the ids read per search, including from the rarest list when every query trigram is common
+        int maxPostings = Math.max(1000, current.documents.size() / 10);
+        int lists = 1;
+        int scanned = postingLists.get(0).size();
+        while (lists < postingLists.size() && scanned + postingLists.get(lists).size() <= maxPostings) {
+            scanned += postingLists.get(lists++).size();
+        }
+
+        long[] candidates = candidates(postingLists.subList(0, lists), maxPostings);
+        List<EmployeeSearchHit> hits = new ArrayList<>();
+        for (long id : candidates) {
+            Document document = current.documents.get(id);
+            if (document != null) {
+                EmployeeSearchHit hit = document.toHit(score(queryTokens, document.tokens()));
+                if (hit.score() >= MIN_SCORE) {
+                    hits.add(hit);
+                }
+            }
+        }
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(EmployeeSearchHit::score).reversed()
+                        .thenComparingLong(EmployeeSearchHit::id))
+                .limit(limit)
+                .toList();
+    }
+
+    private void apply(Consumer<Segment> change) {
+        change.accept(segment);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * Merges the sorted posting lists, reading at most {@code maxPostings} ids of the first, and returns up to
+     * {@link #MAX_CANDIDATES} ids with the most shared trigrams, lowest ids first among equals.
+     */
+    private static long[] candidates(List<Postings> postingLists, int maxPostings) {
+        int lists = postingLists.size();
+        long[][] ids = new long[lists][];
+        int[] ends = new int[lists];
+        int[] positions = new int[lists];
+        for (int i = 0; i < lists; i++) {
+            ids[i] = postingLists.get(i).ids();
+            ends[i] = postingLists.get(i).size();
+        }
+        ends[0] = Math.min(ends[0], maxPostings);
+
+        // a bucket of candidates per shared trigram count; ids arrive in ascending order
+        long[][] buckets = new long[lists + 1][MAX_CANDIDATES];
+        int[] bucketSizes = new int[lists + 1];
+        while (true) {
+            long next = Long.MAX_VALUE;
+            for (int i = 0; i < lists; i++) {
+                if (positions[i] < ends[i] && ids[i][positions[i]] < next) {
+                    next = ids[i][positions[i]];
+                }
+            }
+            if (next == Long.MAX_VALUE) {
+                break;
+            }
+            int shared = 0;
+            for (int i = 0; i < lists; i++) {
+                if (positions[i] < ends[i] && ids[i][positions[i]] == next) {
+                    positions[i]++;
+                    shared++;
+                }
+            }
+            if (bucketSizes[shared] < MAX_CANDIDATES) {
+                buckets[shared][bucketSizes[shared]++] = next;
+            }
+        }
+
+        long[] candidates = new long[MAX_CANDIDATES];
+        int size = 0;
+        for (int shared = lists; shared > 0 && size < MAX_CANDIDATES; shared--) {
+            int taken = Math.min(bucketSizes[shared], MAX_CANDIDATES - size);
+            System.arraycopy(buckets[shared], 0, candidates, size, taken);
+            size += taken;
+        }
+        return Arrays.copyOf(candidates, size);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    static Set<String> grams(List<String> tokens) {
+        Set<String> grams = new HashSet<>();
+        for (String token : tokens) {
+            // pad so short tokens and word starts produce their own trigrams, as pg_trgm does
+            String padded = "  " + token + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Mean over query tokens of the best match among the document tokens, in [0, 1].
+     */
+    static double score(List<String> queryTokens, List<String> documentTokens) {
+        double total = 0;
+        for (String queryToken : queryTokens) {
+            double best = 0;
+            for (String documentToken : documentTokens) {
+                best = Math.max(best, similarity(queryToken, documentToken));
+            }
+            total += best;
+        }
+        return total / queryTokens.size();
+    }
+
+    private static double similarity(String query, String token) {
+        double whole = 1.0 - (double) distance(query, token) / Math.max(query.length(), token.length());
+        if (token.length() <= query.length()) {
+            return whole;
+        }
+        // type-ahead: compare against the start of a longer token, ranked below a whole-token match
+        double prefix = 0.8 * (1.0 - (double) distance(query, token.substring(0, query.length())) / query.length());
+        return Math.max(whole, prefix);
+    }
+
+    // optimal string alignment distance: Levenshtein plus adjacent transpositions
+    private static int distance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    /**
+     * Documents and their postings. Mutated under the index lock, or by the rebuild before it is published.
+     */
+    private static final class Segment {
+
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+        private volatile Map<String, Postings> postings = new ConcurrentHashMap<>();
+
+        private long livePostings;
+
+        private long stalePostings;
+
+        void index(Document document) {
+            Set<String> grams = grams(document.tokens());
+            Document previous = documents.put(document.id(), document);
+            if (previous != null) {
+                drop(previous, gram -> !grams.contains(gram));
+            }
+            for (String gram : grams) {
+                postings.merge(gram, Postings.of(document.id()), (existing, added) -> existing.with(document.id()));
+            }
+            livePostings += grams.size();
+            compactIfStale();
+        }
+
+        void patch(long id, String firstName, String lastName, String email) {
+            Document document = documents.get(id);
+            if (document != null) {
+                index(new Document(id,
+                        firstName != null ? firstName : document.firstName(),
+                        lastName != null ? lastName : document.lastName(),
+                        email != null ? email : document.email()));
+            }
+        }
+
+        void remove(long id) {
+            Document document = documents.remove(id);
+            if (document != null) {
+                drop(document, gram -> true);
+                compactIfStale();
+            }
+        }
+
+        private void drop(Document document, Predicate<String> stale) {
+            Set<String> grams = grams(document.tokens());
+            livePostings -= grams.size();
+            stalePostings += grams.stream().filter(stale).count();
+        }
+
+        // rewrites the postings from the documents once a fifth of the entries point nowhere
+        private void compactIfStale() {
+            if (stalePostings <= Math.max(1000, livePostings / 4)) {
+                return;
+            }
+            List<Document> byId = new ArrayList<>(documents.values());
+            byId.sort(Comparator.comparingLong(Document::id));
+            Map<String, Postings> compacted = new ConcurrentHashMap<>(postings.size());
+            for (Document document : byId) {
+                for (String gram : grams(document.tokens())) {
+                    compacted.merge(gram, Postings.of(document.id()), (existing, added) -> existing.with(document.id()));
+                }
+            }
+            postings = compacted;
+            stalePostings = 0;
+        }
+    }
+
+    /**
+     * Ascending ids of one trigram. Appending a larger id writes past {@code size} of the shared array, which
+     * readers of earlier snapshots never read; anything else copies.
+     */
+    private record Postings(long[] ids, int size) {
+
+        static Postings of(long id) {
+            return new Postings(new long[]{id, 0, 0, 0}, 1);
+        }
+
+        Postings with(long id) {
+            if (ids[size - 1] < id) {
+                long[] target = size < ids.length ? ids : Arrays.copyOf(ids, size * 2);
+                target[size] = id;
+                return new Postings(target, size + 1);
+            }
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                return this;
+            }
+            at = -at - 1;
+            long[] copy = new long[Math.max(ids.length, size + 1)];
+            System.arraycopy(ids, 0, copy, 0, at);
+            copy[at] = id;
+            System.arraycopy(ids, at, copy, at + 1, size - at);
+            return new Postings(copy, size + 1);
+        }
+    }
+
+    // trigrams are derived from the tokens when needed; keeping a set per document would outweigh the postings
+    private record Document(long id, String firstName, String lastName, String email, List<String> tokens) {
+
+        Document(long id, String firstName, String lastName, String email) {
+            this(id, firstName, lastName, email, tokensOf(firstName, lastName, email));
+        }
+
+        private static List<String> tokensOf(String... fields) {
+            List<String> tokens = new ArrayList<>();
+            for (String field : fields) {
+                tokens.addAll(tokenize(field));
+            }
+            return tokens.stream().distinct().toList();
+        }
+
+        EmployeeSearchHit toHit(double score) {
+            return new EmployeeSearchHit(id, firstName, lastName, email, score);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.unittesting.search;
+
+import com.example.unittesting.service.EmployeeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the {@link EmployeeSearchIndex} at startup by streaming the employee table; the service keeps it
+ * up to date afterwards. The application already takes traffic at this point: changes committed during the
+ * load are replayed onto the new index before it replaces the empty one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSearchIndexLoader {
+
+    private final EmployeeService employeeService;
+
+    private final EmployeeSearchIndex employeeSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        employeeSearchIndex.rebuild(employeeService::exportEmployees);
+        log.info("Indexed {} employees for search in {} ms", employeeSearchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
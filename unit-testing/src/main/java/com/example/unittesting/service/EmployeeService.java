@@ -1,18 +1,53 @@
 package com.example.unittesting.service;
 
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeLookupResult;
+import com.example.unittesting.dto.EmployeePage;
+import com.example.unittesting.dto.EmployeePatch;
+import com.example.unittesting.dto.EmployeeSearchHit;
+import com.example.unittesting.dto.EmployeeSlice;
+import com.example.unittesting.dto.EmployeeSummary;
 import com.example.unittesting.model.Employee;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
     Employee saveEmployee(Employee employee);
 
-    List<Employee> getAllEmployees();
+    List<EmployeeBatchResult> saveEmployees(List<Employee> employees);
+
+    List<EmployeeSummary> getAllEmployees();
+
+    List<Map<String, Object>> getAllEmployees(List<String> fields);
+
+    EmployeePage getEmployeesAfter(long afterId, int limit);
+
+    void exportEmployees(Consumer<Employee> consumer);
 
     Optional<Employee> getEmployeeById(long id);
 
+    /**
+     * The employee as currently committed on the primary database, bypassing the application cache: the base for
+     * a read-modify-write such as a conditional update.
+     */
+    Optional<Employee> getEmployeeForUpdate(long id);
+
+    List<EmployeeLookupResult> getEmployeesByIds(List<Long> ids);
+
+    Optional<Long> getEmployeeVersion(long id);
+
+    EmployeeSlice searchEmployees(String lastName, String firstName, boolean prefix, int page, int size);
+
+    List<EmployeeSearchHit> fuzzySearchEmployees(String query, int limit);
+
     Employee updateEmployee(Employee employee);
 
-    void deleteEmployee(long id);
+    boolean patchEmployee(long id, EmployeePatch patch);
+
+    boolean deleteEmployee(long id);
+
+    int deleteEmployees(List<Long> ids);
 }
@@ -1,49 +1,405 @@
 package com.example.unittesting.service;
 
-import com.example.unittesting.exception.ResourceNotFoundException;
+import com.example.unittesting.cache.EmployeeCache;
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeLookupResult;
+import com.example.unittesting.dto.EmployeePage;
+import com.example.unittesting.dto.EmployeePatch;
+import com.example.unittesting.dto.EmployeeSearchHit;
+import com.example.unittesting.dto.EmployeeSlice;
+import com.example.unittesting.dto.EmployeeSummary;
+import com.example.unittesting.exception.DuplicateResourceException;
 import com.example.unittesting.model.Employee;
+import com.example.unittesting.outbox.EmployeeOutbox;
 import com.example.unittesting.repository.EmployeeRepository;
+import com.example.unittesting.search.EmployeeSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "employee.service", histogram = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
+    static final int MAX_PAGE_SIZE = 1000;
+
+    // keep in sync with spring.jpa.properties.hibernate.jdbc.batch_size
+    static final int JDBC_BATCH_SIZE = 50;
+
+    static final int MAX_IN_LIST_SIZE = 1000;
+
+    static final int MAX_SEARCH_HITS = 100;
 
     private final EmployeeRepository employeeRepository;
 
+    private final EntityManager entityManager;
+
+    private final EmployeeCache employeeCache;
+
+    private final EmployeeSearchIndex employeeSearchIndex;
+
+    private final EmployeeOutbox employeeOutbox;
+
     @Override
+    @Transactional
     public Employee saveEmployee(Employee employee) {
 
-        Optional<Employee> findOptionalExistingEmployee = employeeRepository.findByEmail(employee.getEmail());
-        if (findOptionalExistingEmployee.isPresent()) {
-            throw new ResourceNotFoundException("Employee with email " + employee.getEmail() + " already exists");
+        // a cache hit is a cheap early reject; otherwise the unique index decides, in the same round trip as the insert
+        if (employeeCache.getByEmail(employee.getEmail()).isPresent()) {
+            throw duplicateEmail(employee.getEmail(), null);
+        }
+
+        long cacheTicket = employeeCache.ticket();
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw duplicateEmail(employee.getEmail(), e);
+            }
+            throw e;
+        }
+
+        employeeOutbox.created(savedEmployee);
+        afterCommit(() -> {
+            employeeCache.put(savedEmployee, cacheTicket);
+            employeeSearchIndex.index(savedEmployee);
+        });
+        return savedEmployee;
+    }
+
+    private static DuplicateResourceException duplicateEmail(String email, Throwable cause) {
+        return new DuplicateResourceException("Employee with email " + email + " already exists", cause);
+    }
+
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase().contains(Employee.EMAIL_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @Transactional
+    public List<EmployeeBatchResult> saveEmployees(List<Employee> employees) {
+        Set<String> takenEmails = findExistingEmails(employees);
+        List<EmployeeBatchResult> results = new ArrayList<>(employees.size());
+        List<Employee> createdEmployees = new ArrayList<>();
+
+        // flushed through the repository, so a constraint violation arrives as a DataIntegrityViolationException
+        try {
+            int pending = 0;
+            for (int index = 0; index < employees.size(); index++) {
+                Employee employee = employees.get(index);
+                if (!isComplete(employee)) {
+                    results.add(EmployeeBatchResult.invalid(index, employee));
+                } else if (!takenEmails.add(emailKey(employee.getEmail()))) {
+                    results.add(EmployeeBatchResult.duplicate(index, employee));
+                } else {
+                    employeeRepository.save(employee);
+                    employeeOutbox.created(employee);
+                    results.add(EmployeeBatchResult.created(index, employee));
+                    createdEmployees.add(employee);
+
+                    if (++pending == JDBC_BATCH_SIZE) {
+                        employeeRepository.flush();
+                        entityManager.clear();
+                        pending = 0;
+                    }
+                }
+            }
+            employeeRepository.flush();
+            entityManager.clear();
+        } catch (DataIntegrityViolationException e) {
+            // an email inserted concurrently, after findExistingEmails
+            if (isDuplicateEmail(e)) {
+                throw new DuplicateResourceException("An employee with one of the given emails already exists", e);
+            }
+            throw e;
+        }
+
+        afterCommit(() -> createdEmployees.forEach(employeeSearchIndex::index));
+        return results;
+    }
+
+    private Set<String> findExistingEmails(List<Employee> employees) {
+        List<String> emails = employees.stream()
+                .map(Employee::getEmail)
+                .filter(email -> email != null && !email.isBlank())
+                .distinct()
+                .toList();
+
+        Set<String> existingEmails = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += MAX_IN_LIST_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + MAX_IN_LIST_SIZE, emails.size()));
+            employeeRepository.findExistingEmails(chunk).forEach(email -> existingEmails.add(emailKey(email)));
+        }
+        return existingEmails;
+    }
+
+    // the unique index compares emails case-insensitively on MySQL, so the batch has to as well
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isComplete(Employee employee) {
+        return employee.getFirstName() != null && !employee.getFirstName().isBlank()
+                && employee.getLastName() != null && !employee.getLastName().isBlank()
+                && employee.getEmail() != null && !employee.getEmail().isBlank();
+    }
+
+    // read-only transactions run with FlushMode.MANUAL and a read-only session, so Hibernate skips the
+    // pre-query flush and dirty checking; the summaries themselves are never managed
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeSummary> getAllEmployees() {
+        return employeeRepository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllEmployees(List<String> fields) {
+        return employeeRepository.findAllFields(fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeesAfter(long afterId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // fetch one extra row to find out whether another page exists without a count query
+        List<EmployeeSummary> employees = employeeRepository.findSummariesByIdGreaterThan(afterId, Limit.of(pageSize + 1));
+        if (employees.size() <= pageSize) {
+            return new EmployeePage(employees, null);
         }
 
-        return employeeRepository.save(employee);
+        List<EmployeeSummary> content = employees.subList(0, pageSize);
+        return new EmployeePage(content, content.get(pageSize - 1).id());
     }
 
     @Override
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+    @Transactional(readOnly = true)
+    public void exportEmployees(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAllByOrderByIdAsc()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                // keep the persistence context empty so memory stays flat regardless of table size
+                entityManager.detach(employee);
+            });
+        }
     }
 
     @Override
     public Optional<Employee> getEmployeeById(long id) {
+        Optional<Employee> cachedEmployee = employeeCache.getById(id);
+        if (cachedEmployee.isPresent()) {
+            return cachedEmployee;
+        }
+
+        long cacheTicket = employeeCache.ticket();
+        Optional<Employee> employee = employeeRepository.findById(id);
+        employee.ifPresent(found -> employeeCache.put(found, cacheTicket));
+        return employee;
+    }
+
+    // read-write, so that with replica routing it runs on the primary and never sees a lagging copy
+    @Override
+    @Transactional
+    public Optional<Employee> getEmployeeForUpdate(long id) {
         return employeeRepository.findById(id);
     }
 
+    // cache first, then one IN query per chunk of misses, all in a single read-only transaction
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeLookupResult> getEmployeesByIds(List<Long> ids) {
+        Map<Long, Employee> employees = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids.stream().distinct().toList()) {
+            employeeCache.getById(id).ifPresentOrElse(employee -> employees.put(id, employee), () -> misses.add(id));
+        }
+
+        long cacheTicket = employeeCache.ticket();
+        for (int from = 0; from < misses.size(); from += MAX_IN_LIST_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(from + MAX_IN_LIST_SIZE, misses.size()));
+            for (Employee employee : employeeRepository.findAllByIdIn(chunk)) {
+                employeeCache.put(employee, cacheTicket);
+                employees.put(employee.getId(), employee);
+            }
+        }
+
+        return ids.stream()
+                .map(id -> employees.containsKey(id)
+                        ? EmployeeLookupResult.found(employees.get(id))
+                        : EmployeeLookupResult.notFound(id))
+                .toList();
+    }
+
+    @Override
+    public Optional<Long> getEmployeeVersion(long id) {
+        Optional<Employee> cachedEmployee = employeeCache.getById(id);
+        if (cachedEmployee.isPresent()) {
+            return cachedEmployee.map(Employee::getVersion);
+        }
+
+        return employeeRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeSlice searchEmployees(String lastName, String firstName, boolean prefix, int page, int size) {
+        // same order as idx_employee_last_first, so no filesort is needed
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by("lastName", "firstName", "id"));
+
+        Slice<EmployeeSummary> employees;
+        if (firstName == null) {
+            employees = prefix
+                    ? employeeRepository.findSummariesByLastNameStartingWith(lastName, pageable)
+                    : employeeRepository.findSummariesByLastName(lastName, pageable);
+        } else {
+            employees = prefix
+                    ? employeeRepository.findSummariesByLastNameAndFirstNameStartingWith(lastName, firstName, pageable)
+                    : employeeRepository.findSummariesByLastNameAndFirstName(lastName, firstName, pageable);
+        }
+
+        return new EmployeeSlice(employees.getContent(), employees.getNumber(), employees.getSize(), employees.hasNext());
+    }
+
+    @Override
+    public List<EmployeeSearchHit> fuzzySearchEmployees(String query, int limit) {
+        return employeeSearchIndex.search(query, Math.min(limit, MAX_SEARCH_HITS));
+    }
+
     @Override
+    @Transactional
     public Employee updateEmployee(Employee employee) {
-        return employeeRepository.save(employee);
+        // flushed here so the version check runs, and the version is bumped, before the change is recorded
+        Employee updatedEmployee;
+        try {
+            updatedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw duplicateEmail(employee.getEmail(), e);
+            }
+            throw e;
+        }
+        employeeOutbox.updated(updatedEmployee);
+        // evicted only once the new row is committed: an earlier evict lets a concurrent read re-cache the old one
+        afterCommit(() -> {
+            employeeCache.evict(updatedEmployee.getId());
+            employeeSearchIndex.index(updatedEmployee);
+        });
+        return updatedEmployee;
+    }
+
+    @Override
+    @Transactional
+    public boolean patchEmployee(long id, EmployeePatch patch) {
+        int updatedRows;
+        try {
+            updatedRows = employeeRepository.patchById(id, patch.firstName(), patch.lastName(), patch.email());
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw duplicateEmail(patch.email(), e);
+            }
+            throw e;
+        }
+
+        if (updatedRows == 0) {
+            return false;
+        }
+
+        // MySQL's UPDATE cannot return the new version; the row stays locked by it, so this read is exact
+        long version = employeeRepository.findVersionById(id).orElseThrow();
+        employeeOutbox.patched(id, patch, version);
+        // after commit, so a concurrent read cannot re-cache the unpatched row (and its old email) in between
+        afterCommit(() -> {
+            employeeCache.evict(id);
+            employeeSearchIndex.patch(id, patch.firstName(), patch.lastName(), patch.email());
+        });
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteEmployee(long id) {
+        int deletedRows = employeeRepository.deleteEmployeeById(id);
+        if (deletedRows == 0) {
+            return false;
+        }
+
+        employeeOutbox.deleted(id);
+        // after commit: a row re-cached by a concurrent read would keep its email "taken" for saveEmployee
+        afterCommit(() -> {
+            employeeCache.evict(id);
+            employeeSearchIndex.remove(id);
+        });
+        return true;
     }
 
     @Override
-    public void deleteEmployee(long id) {
-        employeeRepository.deleteById(id);
+    @Transactional
+    public int deleteEmployees(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+
+        int deletedRows = 0;
+        for (int from = 0; from < distinctIds.size(); from += MAX_IN_LIST_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinctIds.size()));
+            // only ids that existed get a DELETED change. MySQL's DELETE cannot return the ids it removed, so they
+            // are selected and locked first: a concurrent delete then cannot take one of them in between
+            List<Long> existingIds = employeeRepository.findExistingIdsForUpdate(chunk);
+            if (existingIds.isEmpty()) {
+                continue;
+            }
+            deletedRows += employeeRepository.deleteEmployeesByIdIn(existingIds);
+            existingIds.forEach(employeeOutbox::deleted);
+        }
+
+        afterCommit(() -> distinctIds.forEach(id -> {
+            employeeCache.evict(id);
+            employeeSearchIndex.remove(id);
+        }));
+        return deletedRows;
+    }
+
+    // in-memory side effects must not run for a write that is rolled back
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
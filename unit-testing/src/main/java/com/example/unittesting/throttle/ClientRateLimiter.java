@@ -0,0 +1,57 @@
+package com.example.unittesting.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One {@link TokenBucket} per client, kept in a size-bounded cache. A bucket idle for {@code idleExpiry} is dropped;
+ * with an expiry longer than a full refill that is the same as keeping it.
+ */
+public class ClientRateLimiter {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ClientRateLimiter(double permitsPerSecond, int burst, long maxClients, Duration idleExpiry,
+                             MeterRegistry meterRegistry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+
+        Gauge.builder("employee.throttle.clients", buckets, Cache::estimatedSize)
+                .description("Clients with a rate limit bucket")
+                .register(meterRegistry);
+        FunctionCounter.builder("employee.throttle.rate-limited", rejected, AtomicLong::get)
+                .description("Requests rejected with 429 by the per-client rate limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns 0 if the client may proceed, otherwise the nanoseconds until it may.
+     */
+    public long tryAcquire(String client) {
+        return tryAcquire(client, System.nanoTime());
+    }
+
+    long tryAcquire(String client, long nowNanos) {
+        long waitNanos = buckets.get(client, key -> new TokenBucket(permitsPerSecond, burst, nowNanos)).tryAcquire(nowNanos);
+        if (waitNanos > 0) {
+            rejected.incrementAndGet();
+        }
+        return waitNanos;
+    }
+}
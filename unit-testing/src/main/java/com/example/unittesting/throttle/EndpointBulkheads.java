@@ -0,0 +1,68 @@
+package com.example.unittesting.throttle;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A concurrency limit per endpoint, so one slow or popular endpoint cannot take every pooled connection. A full
+ * bulkhead rejects immediately instead of queueing.
+ */
+public class EndpointBulkheads {
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    private final int defaultLimit;
+
+    private final Map<String, Integer> limits;
+
+    private final MeterRegistry meterRegistry;
+
+    public EndpointBulkheads(int defaultLimit, Map<String, Integer> limits, MeterRegistry meterRegistry) {
+        this.defaultLimit = defaultLimit;
+        this.limits = Map.copyOf(limits);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Takes a permit for the endpoint; a successful call must be paired with {@link #release}.
+     */
+    public boolean tryAcquire(String endpoint) {
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(endpoint, this::create);
+        if (bulkhead.permits().tryAcquire()) {
+            return true;
+        }
+        bulkhead.rejected().incrementAndGet();
+        return false;
+    }
+
+    public void release(String endpoint) {
+        bulkheads.get(endpoint).permits().release();
+    }
+
+    private Bulkhead create(String endpoint) {
+        int limit = limits.getOrDefault(endpoint, defaultLimit);
+        Bulkhead bulkhead = new Bulkhead(limit, new Semaphore(limit), new AtomicLong());
+        Gauge.builder("employee.throttle.bulkhead.active", bulkhead, Bulkhead::active)
+                .description("Requests running inside the endpoint's bulkhead")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        FunctionCounter.builder("employee.throttle.bulkhead.rejected", bulkhead.rejected(), AtomicLong::get)
+                .description("Requests rejected with 503 because the endpoint's bulkhead was full")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private record Bulkhead(int limit, Semaphore permits, AtomicLong rejected) {
+
+        int active() {
+            return limit - permits.availablePermits();
+        }
+    }
+}
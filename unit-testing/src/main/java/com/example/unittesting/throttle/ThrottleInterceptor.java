@@ -0,0 +1,133 @@
+package com.example.unittesting.throttle;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits a request only if its client is within its rate limit (429 otherwise) and the handler method's bulkhead
+ * has room (503 otherwise), both with {@code Retry-After}. Bulkheads are keyed by controller and method, e.g.
+ * {@code EmployeeController#getAllEmployees}. Clients are identified by API key header if the key is one of the
+ * configured ones, otherwise by remote address. The bulkhead permit is held until the response is complete, including streamed ones.
+ */
+public class ThrottleInterceptor implements AsyncHandlerInterceptor {
+
+    static final String BULKHEAD_RETRY_AFTER_SECONDS = "1";
+
+    private static final String PERMIT_ATTRIBUTE = ThrottleInterceptor.class.getName() + ".permit";
+
+    private final ClientRateLimiter rateLimiter;
+
+    private final EndpointBulkheads bulkheads;
+
+    private final String apiKeyHeader;
+
+    private final Set<String> apiKeys;
+
+    public ThrottleInterceptor(ClientRateLimiter rateLimiter, EndpointBulkheads bulkheads, String apiKeyHeader,
+                               Set<String> apiKeys) {
+        this.rateLimiter = rateLimiter;
+        this.bulkheads = bulkheads;
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = Set.copyOf(apiKeys);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // async re-dispatches were admitted on the initial dispatch
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(client(request));
+        if (waitNanos > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+            return false;
+        }
+
+        if (handler instanceof HandlerMethod handlerMethod) {
+            String endpoint = endpoint(handlerMethod);
+            if (!bulkheads.tryAcquire(endpoint)) {
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, BULKHEAD_RETRY_AFTER_SECONDS);
+                return false;
+            }
+            request.setAttribute(PERMIT_ATTRIBUTE, new Permit(endpoint));
+        }
+        return true;
+    }
+
+    // a streamed response outlives the initial dispatch; keep the permit until the async request completes
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.getAsyncContext().addListener(permit);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            permit.release();
+        }
+    }
+
+    // the method name alone would put same-named handlers of different controllers behind one semaphore
+    static String endpoint(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+    }
+
+    // an unknown key falls back to the address: otherwise a fresh key per request would bypass the limit
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    // released exactly once, by whichever of afterCompletion and the async listener comes first
+    private final class Permit implements AsyncListener {
+
+        private final String endpoint;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkheads.release(endpoint);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
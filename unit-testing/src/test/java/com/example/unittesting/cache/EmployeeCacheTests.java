@@ -0,0 +1,124 @@
+package com.example.unittesting.cache;
+
+import com.example.unittesting.model.Employee;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+class EmployeeCacheTests {
+
+    private EmployeeCache employeeCache;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employeeCache = new EmployeeCache(100, Duration.ofMinutes(10));
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Ramesh")
+                .email("ramesh@gmail.com")
+                .build();
+    }
+
+    // unit test for cached lookup by id and email
+    @DisplayName("unit test for cached lookup by id and email")
+    @Test
+    void givenCachedEmployee_whenGetByIdAndEmail_thenReturnCopies() {
+        // given - precondition or setup
+        employeeCache.put(employee, employeeCache.ticket());
+
+        //when - action or behaviour that we are going to test
+        Optional<Employee> byId = employeeCache.getById(employee.getId());
+        Optional<Employee> byEmail = employeeCache.getByEmail(employee.getEmail());
+
+        //then - verify the output
+        Assertions.assertThat(byId).isPresent();
+        Assertions.assertThat(byId.get()).isNotSameAs(employee);
+        Assertions.assertThat(byId.get().getEmail()).isEqualTo(employee.getEmail());
+        Assertions.assertThat(byEmail).isPresent();
+        Assertions.assertThat(employeeCache.byIdStats().hitCount()).isEqualTo(2);
+    }
+
+    // unit test for mutating a returned employee
+    @DisplayName("unit test for mutating a returned employee")
+    @Test
+    void givenCachedEmployee_whenCallerMutatesResult_thenCacheIsUnchanged() {
+        // given - precondition or setup
+        employeeCache.put(employee, employeeCache.ticket());
+
+        //when - action or behaviour that we are going to test
+        employeeCache.getById(employee.getId()).orElseThrow().setEmail("changed@gmail.com");
+
+        //then - verify the output
+        Assertions.assertThat(employeeCache.getById(employee.getId()).orElseThrow().getEmail())
+                .isEqualTo("ramesh@gmail.com");
+    }
+
+    // unit test for evicting an employee
+    @DisplayName("unit test for evicting an employee")
+    @Test
+    void givenCachedEmployee_whenEvict_thenMissByIdAndEmail() {
+        // given - precondition or setup
+        employeeCache.put(employee, employeeCache.ticket());
+
+        //when - action or behaviour that we are going to test
+        employeeCache.evict(employee.getId());
+
+        //then - verify the output
+        Assertions.assertThat(employeeCache.getById(employee.getId())).isEmpty();
+        Assertions.assertThat(employeeCache.getByEmail(employee.getEmail())).isEmpty();
+    }
+
+    // unit test for email lookup after the email changed
+    @DisplayName("unit test for email lookup after the email changed")
+    @Test
+    void givenEmailChanged_whenGetByOldEmail_thenMiss() {
+        // given - precondition or setup
+        employeeCache.put(employee, employeeCache.ticket());
+        employeeCache.put(employee.toBuilder().email("updated@gmail.com").build(), employeeCache.ticket());
+
+        //when - action or behaviour that we are going to test
+        Optional<Employee> byOldEmail = employeeCache.getByEmail("ramesh@gmail.com");
+
+        //then - verify the output
+        Assertions.assertThat(byOldEmail).isEmpty();
+        Assertions.assertThat(employeeCache.getByEmail("updated@gmail.com")).isPresent();
+    }
+
+    // unit test for a read that raced an eviction
+    @DisplayName("unit test for a read that raced an eviction")
+    @Test
+    void givenEvictionAfterTicket_whenPut_thenNotCached() {
+        // given - precondition or setup
+        long ticket = employeeCache.ticket();
+        employeeCache.evict(employee.getId());
+
+        //when - action or behaviour that we are going to test
+        employeeCache.put(employee, ticket);
+
+        //then - verify the output
+        Assertions.assertThat(employeeCache.getById(employee.getId())).isEmpty();
+        Assertions.assertThat(employeeCache.getByEmail(employee.getEmail())).isEmpty();
+    }
+
+    // unit test for putting an older version over a newer one
+    @DisplayName("unit test for putting an older version over a newer one")
+    @Test
+    void givenNewerVersionCached_whenPutOlderVersion_thenKeepNewer() {
+        // given - precondition or setup
+        employeeCache.put(employee.toBuilder().version(2L).email("updated@gmail.com").build(), employeeCache.ticket());
+
+        //when - action or behaviour that we are going to test
+        employeeCache.put(employee.toBuilder().version(1L).build(), employeeCache.ticket());
+
+        //then - verify the output
+        Assertions.assertThat(employeeCache.getById(employee.getId()).orElseThrow().getVersion()).isEqualTo(2L);
+        Assertions.assertThat(employeeCache.getByEmail(employee.getEmail())).isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.unittesting.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// routing through the application's JPA stack: JpaTransactionManager and Hibernate sessions, embedded H2 databases
+class DataSourceRoutingConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class,
+                    HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class))
+            .withUserConfiguration(DataSourceRoutingConfiguration.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:jpa-primary",
+                    "spring.datasource.username=sa",
+                    "employee.datasource.routing.enabled=true",
+                    "employee.datasource.routing.read-your-writes-window=0s",
+                    "employee.datasource.routing.replicas[0].url=jdbc:h2:mem:jpa-replica",
+                    "employee.datasource.routing.replicas[0].username=sa");
+
+    // unit test for routing JPA transactions
+    @DisplayName("unit test for routing JPA transactions")
+    @Test
+    void givenJpaTransactions_whenReadOnlyOrReadWrite_thenRouteToReplicaOrPrimary() {
+        contextRunner.run(context -> {
+            // given - precondition or setup
+            EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+
+            //when - action or behaviour that we are going to test
+            List<String> databases = List.of(
+                    inTransaction(entityManagerFactory, transactionManager, true),
+                    inTransaction(entityManagerFactory, transactionManager, false));
+
+            //then - verify the output
+            Assertions.assertThat(databases).containsExactly("JPA-REPLICA", "JPA-PRIMARY");
+        });
+    }
+
+    // unit test for routing JPA transactions that share an open-in-view EntityManager
+    @DisplayName("unit test for routing JPA transactions that share an open-in-view EntityManager")
+    @Test
+    void givenOpenEntityManagerInView_whenReadThenWrite_thenWriteGoesToPrimary() {
+        contextRunner.run(context -> {
+            // given - precondition or setup
+            EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+            // what OpenEntityManagerInViewInterceptor does for the duration of a request
+            EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+            TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+
+            //when - action or behaviour that we are going to test
+            List<String> databases;
+            try {
+                databases = List.of(
+                        inTransaction(entityManagerFactory, transactionManager, true),
+                        inTransaction(entityManagerFactory, transactionManager, false),
+                        inTransaction(entityManagerFactory, transactionManager, true));
+            } finally {
+                TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+                requestEntityManager.close();
+            }
+
+            //then - verify the output
+            Assertions.assertThat(databases).containsExactly("JPA-REPLICA", "JPA-PRIMARY", "JPA-REPLICA");
+        });
+    }
+
+    private static String inTransaction(EntityManagerFactory entityManagerFactory,
+                                        PlatformTransactionManager transactionManager, boolean readOnly) {
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                (String) entityManager.createNativeQuery("select database()").getSingleResult());
+    }
+}
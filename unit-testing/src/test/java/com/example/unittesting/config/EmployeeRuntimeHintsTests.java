@@ -0,0 +1,49 @@
+package com.example.unittesting.config;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import com.example.unittesting.dto.EmployeeSummary;
+import com.example.unittesting.model.Employee;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class EmployeeRuntimeHintsTests {
+
+    // unit test for the reflection hints of reflectively created and serialized types
+    @DisplayName("unit test for the reflection hints of reflectively created and serialized types")
+    @Test
+    void givenRegisteredHints_whenCheckReflection_thenProjectionsAndSerializedTypesAreCovered() {
+        // given - precondition or setup
+        RuntimeHints hints = new RuntimeHints();
+
+        //when - action or behaviour that we are going to test
+        new EmployeeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        //then - verify the output
+        Assertions.assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeSummary.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        Assertions.assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeChangeEvent.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        Assertions.assertThat(RuntimeHintsPredicates.reflection().onMethod(Employee.class, "getEmail")).accepts(hints);
+        Assertions.assertThat(RuntimeHintsPredicates.reflection().onType(CaffeineCachingProvider.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    // unit test for the resource hint of the JCache provider defaults
+    @DisplayName("unit test for the resource hint of the JCache provider defaults")
+    @Test
+    void givenRegisteredHints_whenCheckResources_thenProviderDefaultsAreIncluded() {
+        // given - precondition or setup
+        RuntimeHints hints = new RuntimeHints();
+
+        //when - action or behaviour that we are going to test
+        new EmployeeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        //then - verify the output
+        Assertions.assertThat(RuntimeHintsPredicates.resource().forResource("reference.conf")).accepts(hints);
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.unittesting.config;
+
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// runs without the test transaction: the second-level cache is only written when a transaction commits
+@DataJpaTest
+@Import(HibernateCacheConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheConfigurationTests {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterBinder hibernateCacheMetrics;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Statistics statistics;
+
+    private Employee employee;
+
+    // statistics are off in the application; they are switched on here only to count the SQL statements
+    @BeforeEach
+    void setUp() {
+        hibernateCacheMetrics.bindTo(meterRegistry);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        employee = employeeRepository.save(Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build());
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        employeeRepository.deleteAllInBatch();
+    }
+
+    private double hits(String region) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", "hit").functionCounter().count();
+    }
+
+    // unit test for reading a cached employee by id
+    @DisplayName("unit test for reading a cached employee by id")
+    @Test
+    void givenSavedEmployee_whenFindByIdRepeatedly_thenIssueNoSql() {
+        // given - precondition or setup
+        long id = employee.getId();
+        double hits = hits(Employee.CACHE_REGION);
+
+        //when - action or behaviour that we are going to test
+        employeeRepository.findById(id);
+        employeeRepository.findById(id);
+
+        //then - verify the output
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(hits(Employee.CACHE_REGION) - hits).isEqualTo(2);
+    }
+
+    // unit test for serving a repeated email lookup from the query cache
+    @DisplayName("unit test for serving a repeated email lookup from the query cache")
+    @Test
+    void givenCachedEmailLookup_whenFindByEmailAgain_thenIssueNoSql() {
+        // given - precondition or setup
+        employeeRepository.findByEmail(employee.getEmail());
+        long statements = statistics.getPrepareStatementCount();
+        double hits = hits(Employee.QUERY_CACHE_REGION);
+
+        //when - action or behaviour that we are going to test
+        Employee found = employeeRepository.findByEmail(employee.getEmail()).orElseThrow();
+
+        //then - verify the output
+        Assertions.assertThat(found.getId()).isEqualTo(employee.getId());
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        Assertions.assertThat(hits(Employee.QUERY_CACHE_REGION) - hits).isEqualTo(1);
+    }
+
+    // unit test for invalidating cached reads on writes
+    @DisplayName("unit test for invalidating cached reads on writes")
+    @Test
+    void givenCachedReads_whenEmployeeUpdatedAndPatched_thenReadsSeeNewValues() {
+        // given - precondition or setup
+        String oldEmail = employee.getEmail();
+        employeeRepository.findByEmail(oldEmail);
+        employeeRepository.findById(employee.getId());
+
+        //when - action or behaviour that we are going to test
+        employee.setEmail("ram@gmail.com");
+        employee = employeeRepository.save(employee);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                employeeRepository.patchById(employee.getId(), "Ram", null, null));
+
+        //then - verify the output
+        Assertions.assertThat(employeeRepository.findByEmail(oldEmail)).isEmpty();
+        Assertions.assertThat(employeeRepository.findById(employee.getId()))
+                .get()
+                .extracting(Employee::getFirstName, Employee::getEmail)
+                .containsExactly("Ram", "ram@gmail.com");
+    }
+
+    // unit test for keeping other cached employees on a single-row patch
+    @DisplayName("unit test for keeping other cached employees on a single-row patch")
+    @Test
+    void givenTwoCachedEmployees_whenOnePatched_thenOtherStaysCachedAndLookupsSeeNewEmail() {
+        // given - precondition or setup
+        Employee other = employeeRepository.save(Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail.com")
+                .build());
+        String oldEmail = employee.getEmail();
+        employeeRepository.findByEmail(oldEmail);
+        employeeRepository.findById(other.getId());
+
+        //when - action or behaviour that we are going to test
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                employeeRepository.patchById(employee.getId(), null, null, "ram@gmail.com"));
+        statistics.clear();
+        employeeRepository.findById(other.getId());
+        long statementsForOther = statistics.getPrepareStatementCount();
+
+        //then - verify the output
+        Assertions.assertThat(statementsForOther).isZero();
+        Assertions.assertThat(employeeRepository.findByEmail(oldEmail)).isEmpty();
+        Assertions.assertThat(employeeRepository.findById(employee.getId()))
+                .get()
+                .extracting(Employee::getEmail)
+                .isEqualTo("ram@gmail.com");
+    }
+
+    // unit test for keeping other cached employees on a delete
+    @DisplayName("unit test for keeping other cached employees on a delete")
+    @Test
+    void givenTwoCachedEmployees_whenOneDeleted_thenOtherStaysCached() {
+        // given - precondition or setup
+        Employee other = employeeRepository.save(Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail.com")
+                .build());
+        employeeRepository.findById(employee.getId());
+        employeeRepository.findById(other.getId());
+
+        //when - action or behaviour that we are going to test
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                employeeRepository.deleteEmployeesByIdIn(List.of(employee.getId())));
+        statistics.clear();
+        employeeRepository.findById(other.getId());
+        long statementsForOther = statistics.getPrepareStatementCount();
+
+        //then - verify the output
+        Assertions.assertThat(statementsForOther).isZero();
+        Assertions.assertThat(employeeRepository.findById(employee.getId())).isEmpty();
+    }
+
+    // unit test for streaming every employee past the second-level cache
+    @DisplayName("unit test for streaming every employee past the second-level cache")
+    @Test
+    void givenEmptyCache_whenStreamAllEmployees_thenCacheStaysEmpty() {
+        // given - precondition or setup
+        entityManagerFactory.getCache().evictAll();
+
+        //when - action or behaviour that we are going to test
+        long streamed = new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<Employee> employees = employeeRepository.streamAllByOrderByIdAsc()) {
+                return employees.count();
+            }
+        });
+
+        //then - verify the output
+        Assertions.assertThat(streamed).isEqualTo(1);
+        Assertions.assertThat(entityManagerFactory.getCache().contains(Employee.class, employee.getId())).isFalse();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.unittesting.controller;
+
+import com.example.unittesting.exception.DuplicateResourceException;
+import com.example.unittesting.exception.ResourceNotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+class BusinessExceptionHandlerTests {
+
+    private final BusinessExceptionHandler handler = new BusinessExceptionHandler();
+
+    // unit test for mapping a missing resource to a 404 problem
+    @DisplayName("unit test for mapping a missing resource to a 404 problem")
+    @Test
+    void givenResourceNotFound_whenHandle_thenReturnNotFoundProblem() {
+        // given - precondition or setup
+        ResourceNotFoundException exception = new ResourceNotFoundException("Employee 42 not found");
+
+        //when - action or behaviour that we are going to test
+        ResponseEntity<ProblemDetail> response = handler.handleNotFound(exception);
+
+        //then - verify the output
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        Assertions.assertThat(response.getBody().getDetail()).isEqualTo("Employee 42 not found");
+        Assertions.assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    // unit test for mapping a duplicate resource to a 409 problem
+    @DisplayName("unit test for mapping a duplicate resource to a 409 problem")
+    @Test
+    void givenDuplicateResource_whenHandle_thenReturnConflictProblemAndKeepCauseTrace() {
+        // given - precondition or setup
+        IllegalStateException cause = new IllegalStateException("uk_employee_email");
+        DuplicateResourceException exception = new DuplicateResourceException("Employee with email a@b.c already exists", cause);
+
+        //when - action or behaviour that we are going to test
+        ResponseEntity<ProblemDetail> response = handler.handleDuplicate(exception);
+
+        //then - verify the output
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        Assertions.assertThat(response.getBody().getTitle()).isEqualTo("Conflict");
+        Assertions.assertThat(exception.getStackTrace()).isEmpty();
+        Assertions.assertThat(exception.getCause().getStackTrace()).isNotEmpty();
+    }
+}
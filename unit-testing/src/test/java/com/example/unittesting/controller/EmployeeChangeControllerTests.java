@@ -0,0 +1,55 @@
+package com.example.unittesting.controller;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import com.example.unittesting.dto.EmployeeChangeFeed;
+import com.example.unittesting.model.EmployeeChange;
+import com.example.unittesting.outbox.EmployeeOutbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Instant;
+import java.util.List;
+
+@WebMvcTest(controllers = EmployeeChangeController.class)
+public class EmployeeChangeControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeOutbox employeeOutbox;
+
+    //unit test for get employee changes rest api
+    @DisplayName("unit test for get employee changes rest api")
+    @Test
+    public void givenPublishedChanges_whenGetChangesSince_thenReturnFeed() {
+        //given - precondition
+        EmployeeChangeEvent deleted = new EmployeeChangeEvent(8L, 3L, EmployeeChange.Type.DELETED, null, null, null,
+                null, Instant.parse("2024-05-01T10:15:30Z"));
+        BDDMockito.given(employeeOutbox.changesSince(7L, 100)).willReturn(new EmployeeChangeFeed(List.of(deleted), 8L));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees/changes")
+                    .param("since", "7"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.changes[0].employeeId").value(3))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.changes[0].type").value("DELETED"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.next").value(8));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,16 +1,28 @@
 package com.example.unittesting.controller;
 
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeLookupResult;
+import com.example.unittesting.dto.EmployeePage;
+import com.example.unittesting.dto.EmployeePatch;
+import com.example.unittesting.dto.EmployeeSearchHit;
+import com.example.unittesting.dto.EmployeeSlice;
+import com.example.unittesting.dto.EmployeeSummary;
+import com.example.unittesting.exception.DuplicateResourceException;
 import com.example.unittesting.model.Employee;
 import com.example.unittesting.service.EmployeeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,8 +34,13 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 @WebMvcTest(controllers = EmployeeController.class)
 public class EmployeeControllerTests {
@@ -68,10 +85,40 @@ public class EmployeeControllerTests {
         }
     }
 
-    //unit test for getAllEmployees rest api
-    @DisplayName("unit test for getAllEmployees rest api")
+    //unit test for create employee controller with a duplicate email
+    @DisplayName("unit test for create employee controller with a duplicate email")
     @Test
-    public void givenListOfEmployees_whenGetAllEmployees_thenReturnEmployeeList() {
+    public void givenDuplicateEmail_whenCreateEmployee_thenReturnConflict(){
+        //given - precondition
+        Employee employee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build();
+
+        BDDMockito.given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willThrow(new DuplicateResourceException("Employee with email john.doe@example.com already exists"));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/employees").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(employee))
+            );
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isConflict())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.detail").value("Employee with email john.doe@example.com already exists"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for batch create employees controller
+    @DisplayName("unit test for batch create employees controller")
+    @Test
+    public void givenEmployees_whenCreateEmployees_thenReturnResultPerEmployee() {
         //given - precondition
         Employee employee1 = Employee.builder()
                 .firstName("John")
@@ -85,7 +132,75 @@ public class EmployeeControllerTests {
                 .email("john.doe@example.com")
                 .build();
 
-        List<Employee> employees = Arrays.asList(employee1, employee2);
+        BDDMockito.given(employeeService.saveEmployees(ArgumentMatchers.anyList())).willReturn(List.of(
+                new EmployeeBatchResult(0, employee1.getEmail(), EmployeeBatchResult.Status.CREATED, 1L),
+                new EmployeeBatchResult(1, employee2.getEmail(), EmployeeBatchResult.Status.DUPLICATE, null)));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/employees/batch").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(employee1, employee2)))
+            );
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.size()").value(2))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].status").value("CREATED"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(1))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[1].status").value("DUPLICATE"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for update employee rest api with a duplicate email
+    @DisplayName("unit test for update employee rest api with a duplicate email")
+    @Test
+    public void givenEmailOfAnotherEmployee_whenUpdateEmployee_thenReturnConflict() {
+        //given - precondition
+        long employeeId = 1L;
+        Employee savedEmployee = Employee.builder()
+                .id(employeeId)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build();
+        Employee updatedEmployee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("jane.doe@example.com")
+                .build();
+
+        BDDMockito.given(employeeService.getEmployeeForUpdate(employeeId)).willReturn(Optional.of(savedEmployee));
+        BDDMockito.given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class)))
+                .willThrow(new DuplicateResourceException("Employee with email jane.doe@example.com already exists"));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.put("/api/employees/{id}", employeeId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isConflict())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for getAllEmployees rest api
+    @DisplayName("unit test for getAllEmployees rest api")
+    @Test
+    public void givenListOfEmployees_whenGetAllEmployees_thenReturnEmployeeList() {
+        //given - precondition
+        EmployeeSummary employee1 = new EmployeeSummary(1L, "John", "Doe", "john.doe@example.com");
+
+        EmployeeSummary employee2 = new EmployeeSummary(2L, "John", "Doe", "john2.doe@example.com");
+
+        List<EmployeeSummary> employees = Arrays.asList(employee1, employee2);
         BDDMockito.given(employeeService.getAllEmployees()).willReturn(employees);
 
         //when - action or the behaviour that we are going to test
@@ -101,6 +216,170 @@ public class EmployeeControllerTests {
         }
     }
 
+    //unit test for getAllEmployees rest api (sparse fieldset)
+    @DisplayName("unit test for getAllEmployees rest api (sparse fieldset)")
+    @Test
+    public void givenFields_whenGetAllEmployees_thenReturnOnlySelectedFields() {
+        //given - precondition
+        Map<String, Object> employee = new LinkedHashMap<>();
+        employee.put("id", 1L);
+        employee.put("email", "john.doe@example.com");
+        BDDMockito.given(employeeService.getAllEmployees(List.of("id", "email"))).willReturn(List.of(employee));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees")
+                    .param("fields", "id,email,id"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].email").value("john.doe@example.com"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName").doesNotExist());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for getAllEmployees rest api (unknown field)
+    @DisplayName("unit test for getAllEmployees rest api (unknown field)")
+    @Test
+    public void givenUnknownField_whenGetAllEmployees_thenReturnBadRequest() {
+        //given - precondition
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees")
+                    .param("fields", "id,salary"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest());
+            BDDMockito.verifyNoInteractions(employeeService);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for keyset paginated getAllEmployees rest api
+    @DisplayName("unit test for keyset paginated getAllEmployees rest api")
+    @Test
+    public void givenAfterAndLimit_whenGetEmployeesPage_thenReturnPageWithNextCursor() {
+        //given - precondition
+        EmployeeSummary employee1 = new EmployeeSummary(11L, "John", "Doe", "john.doe@example.com");
+
+        EmployeeSummary employee2 = new EmployeeSummary(12L, "Jane", "Doe", "jane.doe@example.com");
+
+        BDDMockito.given(employeeService.getEmployeesAfter(10L, 2)).willReturn(new EmployeePage(List.of(employee1, employee2), 12L));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees")
+                    .param("after", "10")
+                    .param("limit", "2"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.content.size()").value(2))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").value(12));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for search employees rest api
+    @DisplayName("unit test for search employees rest api")
+    @Test
+    public void givenLastNamePrefix_whenSearchEmployees_thenReturnSlice() {
+        //given - precondition
+        EmployeeSummary employee = new EmployeeSummary(1L, "John", "Doe", "john.doe@example.com");
+
+        BDDMockito.given(employeeService.searchEmployees("Do", null, true, 0, 20))
+                .willReturn(new EmployeeSlice(List.of(employee), 0, 20, false));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees/search")
+                    .param("lastName", "Do")
+                    .param("prefix", "true"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].lastName").value("Doe"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(false));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for fuzzy search employees rest api
+    @DisplayName("unit test for fuzzy search employees rest api")
+    @Test
+    public void givenMisspelledName_whenFuzzySearchEmployees_thenReturnRankedHits() {
+        //given - precondition
+        BDDMockito.given(employeeService.fuzzySearchEmployees("jhon", 10))
+                .willReturn(List.of(new EmployeeSearchHit(1L, "John", "Doe", "john.doe@example.com", 0.75)));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees/search/fuzzy")
+                    .param("q", "jhon"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName").value("John"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].score").value(0.75));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for export employees rest api
+    @DisplayName("unit test for export employees rest api")
+    @Test
+    public void givenEmployees_whenExportEmployees_thenStreamNdjson() {
+        //given - precondition
+        Employee employee1 = Employee.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build();
+
+        Employee employee2 = Employee.builder()
+                .id(2L)
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("jane.doe@example.com")
+                .build();
+
+        BDDMockito.willAnswer(invocationOnMock -> {
+            Consumer<Employee> consumer = invocationOnMock.getArgument(0);
+            consumer.accept(employee1);
+            consumer.accept(employee2);
+            return null;
+        }).given(employeeService).exportEmployees(ArgumentMatchers.any());
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees/export"));
+            response.andExpect(MockMvcResultMatchers.request().asyncStarted());
+
+            //then verify the output
+            mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(response.andReturn()))
+                    .andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(MockMvcResultMatchers.content().string(
+                            objectMapper.writeValueAsString(employee1) + "\n" + objectMapper.writeValueAsString(employee2) + "\n"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     //unit test for getEmployeeById rest api (positive scenario)
     @DisplayName("unit test for getEmployeeById rest api (positive scenario)")
     @Test
@@ -124,12 +403,110 @@ public class EmployeeControllerTests {
             //then verify the output
             response.andDo(MockMvcResultHandlers.print())
                     .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"0\""))
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
                     .andExpect(MockMvcResultMatchers.jsonPath("$.firstName").value(employee.getFirstName()));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    //unit test for getEmployeeById rest api (sparse fieldset as Smile)
+    @DisplayName("unit test for getEmployeeById rest api (sparse fieldset as Smile)")
+    @Test
+    public void givenFieldsAndSmileAccept_whenGetEmployeeById_thenReturnSmileBody() {
+        //given - precondition
+        long employeeId = 1L;
+
+        Employee employee = Employee.builder()
+                .id(employeeId)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .version(3L)
+                .build();
+
+        BDDMockito.given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees/{id}", employeeId)
+                    .param("fields", "firstName")
+                    .accept("application/x-jackson-smile"));
+
+            //then verify the output
+            byte[] body = response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentType("application/x-jackson-smile"))
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3;fields=firstName;x-jackson-smile\""))
+                    .andReturn().getResponse().getContentAsByteArray();
+            Map<?, ?> decoded = new ObjectMapper(new SmileFactory()).readValue(body, Map.class);
+            Assertions.assertThat(decoded).isEqualTo(Map.of("firstName", "John"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for getEmployeeById rest api (not modified)
+    @DisplayName("unit test for getEmployeeById rest api (not modified)")
+    @Test
+    public void givenCurrentETag_whenGetEmployeeById_thenReturnNotModified() {
+        //given - precondition
+        long employeeId = 1L;
+
+        BDDMockito.given(employeeService.getEmployeeVersion(employeeId)).willReturn(Optional.of(3L));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees/{id}", employeeId)
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isNotModified())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(MockMvcResultMatchers.content().string(""));
+            BDDMockito.verify(employeeService, Mockito.never()).getEmployeeById(employeeId);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for getEmployeeById rest api (ETag of another representation)
+    @DisplayName("unit test for getEmployeeById rest api (ETag of another representation)")
+    @Test
+    public void givenFullBodyETag_whenGetEmployeeFields_thenReturnProjection() {
+        //given - precondition
+        long employeeId = 1L;
+
+        Employee employee = Employee.builder()
+                .id(employeeId)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .version(3L)
+                .build();
+
+        BDDMockito.given(employeeService.getEmployeeVersion(employeeId)).willReturn(Optional.of(3L));
+        BDDMockito.given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees/{id}", employeeId)
+                    .param("fields", "id,email")
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3;fields=id,email\""))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.email").value(employee.getEmail()))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.firstName").doesNotExist());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     //unit test for getEmployeeById rest api (negative scenario)
     @DisplayName("unit test for getEmployeeById rest api (negative scenario)")
     @Test
@@ -152,7 +529,9 @@ public class EmployeeControllerTests {
 
             //then verify the output
             response.andDo(MockMvcResultHandlers.print())
-                    .andExpect(MockMvcResultMatchers.status().isNotFound());
+                    .andExpect(MockMvcResultMatchers.status().isNotFound())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.detail").value("Employee " + employeeId + " not found"));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -172,7 +551,7 @@ public class EmployeeControllerTests {
                 .email("john.doe@example.com")
                 .build();
 
-        BDDMockito.given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+        BDDMockito.given(employeeService.getEmployeeForUpdate(employeeId)).willReturn(Optional.of(employee));
 
         Employee updatedEmployee = Employee.builder()
                 .id(employeeId)
@@ -201,6 +580,40 @@ public class EmployeeControllerTests {
         }
     }
 
+    //unit test for updateEmployee rest api (stale If-Match)
+    @DisplayName("unit test for updateEmployee rest api (stale If-Match)")
+    @Test
+    public void givenStaleIfMatch_whenUpdateEmployee_thenReturnPreconditionFailed() {
+        //given - precondition
+        long employeeId = 1L;
+
+        Employee employee = Employee.builder()
+                .id(employeeId)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .version(4L)
+                .build();
+
+        BDDMockito.given(employeeService.getEmployeeForUpdate(employeeId)).willReturn(Optional.of(employee));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.put("/api/employees/{id}", employeeId)
+                    .header(HttpHeaders.IF_MATCH, "\"3\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(employee)));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""));
+            BDDMockito.verify(employeeService, Mockito.never()).updateEmployee(ArgumentMatchers.any(Employee.class));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     //unit test for updateEmployee rest api (negative scenario)
     @DisplayName("unit test for updateEmployee rest api (negative scenario)")
     @Test
@@ -215,7 +628,7 @@ public class EmployeeControllerTests {
                 .email("john.doe@example.com")
                 .build();
 
-        BDDMockito.given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.empty());
+        BDDMockito.given(employeeService.getEmployeeForUpdate(employeeId)).willReturn(Optional.empty());
 
         Employee updatedEmployee = Employee.builder()
                 .id(employeeId)
@@ -242,12 +655,83 @@ public class EmployeeControllerTests {
     }
 
 
+    //unit test for patchEmployee rest api (positive scenario)
+    @DisplayName("unit test for patchEmployee rest api (positive scenario)")
+    @Test
+    public void givenEmployeePatch_whenPatchEmployee_thenReturnNoContent() {
+        //given - precondition
+        long employeeId = 1L;
+        EmployeePatch patch = new EmployeePatch(null, null, "john1.doe1@example.com");
+
+        BDDMockito.given(employeeService.patchEmployee(employeeId, patch)).willReturn(true);
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.patch("/api/employees/{id}", employeeId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(patch)));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isNoContent());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for patchEmployee rest api (negative scenario)
+    @DisplayName("unit test for patchEmployee rest api (negative scenario)")
+    @Test
+    public void givenMissingEmployee_whenPatchEmployee_thenReturnNotFound() {
+        //given - precondition
+        long employeeId = 1L;
+        EmployeePatch patch = new EmployeePatch("John1", null, null);
+
+        BDDMockito.given(employeeService.patchEmployee(employeeId, patch)).willReturn(false);
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.patch("/api/employees/{id}", employeeId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(patch)));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isNotFound());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for patchEmployee rest api (empty patch)
+    @DisplayName("unit test for patchEmployee rest api (empty patch)")
+    @Test
+    public void givenEmptyPatch_whenPatchEmployee_thenReturnBadRequest() {
+        //given - precondition
+        long employeeId = 1L;
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.patch("/api/employees/{id}", employeeId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest());
+            BDDMockito.verify(employeeService, Mockito.never())
+                    .patchEmployee(ArgumentMatchers.anyLong(), ArgumentMatchers.any(EmployeePatch.class));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     //unit test for delete employee rest api
     @DisplayName("unit test for delete employee rest api")
     @Test
     public void given_when_then() {
         //given - precondition
-        BDDMockito.willDoNothing().given(employeeService).deleteEmployee(ArgumentMatchers.anyLong());
+        BDDMockito.given(employeeService.deleteEmployee(ArgumentMatchers.anyLong())).willReturn(true);
         //when - action or the behaviour that we are going to test
         try {
             ResultActions response = mockMvc.perform(MockMvcRequestBuilders.delete("/api/employees/{id}", 1L));
@@ -259,4 +743,87 @@ public class EmployeeControllerTests {
             throw new RuntimeException(e);
         }
     }
+
+    //unit test for delete employee rest api (negative scenario)
+    @DisplayName("unit test for delete employee rest api (negative scenario)")
+    @Test
+    public void givenMissingEmployee_whenDeleteEmployee_thenReturnNotFound() {
+        //given - precondition
+        BDDMockito.given(employeeService.deleteEmployee(ArgumentMatchers.anyLong())).willReturn(false);
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.delete("/api/employees/{id}", 1L));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isNotFound());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for bulk delete employees rest api
+    @DisplayName("unit test for bulk delete employees rest api")
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount() {
+        //given - precondition
+        BDDMockito.given(employeeService.deleteEmployees(List.of(1L, 2L, 3L))).willReturn(2);
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.delete("/api/employees").param("ids", "1,2,3"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.requested").value(3))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.deleted").value(2));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for lookup employees rest api
+    @DisplayName("unit test for lookup employees rest api")
+    @Test
+    public void givenEmployeeIds_whenLookupEmployees_thenReturnResultsInRequestOrder() {
+        //given - precondition
+        Employee employee = Employee.builder().id(2L).firstName("John").lastName("Doe").email("john.doe@example.com").build();
+        BDDMockito.given(employeeService.getEmployeesByIds(List.of(5L, 2L)))
+                .willReturn(List.of(EmployeeLookupResult.notFound(5L), EmployeeLookupResult.found(employee)));
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/employees/lookup")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[5, 2]"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(5))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[0].status").value("NOT_FOUND"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[1].status").value("FOUND"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$[1].employee.email").value(employee.getEmail()));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for lookup employees rest api (too many ids)
+    @DisplayName("unit test for lookup employees rest api (too many ids)")
+    @Test
+    public void givenTooManyIds_whenGetEmployeesByIds_thenReturnBadRequest() {
+        //given - precondition
+        String ids = LongStream.rangeClosed(1, 1001).mapToObj(Long::toString).collect(Collectors.joining(","));
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees").param("ids", ids));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest());
+            BDDMockito.verifyNoInteractions(employeeService);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package com.example.unittesting.controller;
+
+import com.example.unittesting.dto.EmployeeImportError;
+import com.example.unittesting.dto.EmployeeImportReport;
+import com.example.unittesting.ingest.EmployeeCsvImporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.io.Reader;
+import java.util.List;
+
+@WebMvcTest(controllers = EmployeeImportController.class)
+public class EmployeeImportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeCsvImporter csvImporter;
+
+    private final String csv = """
+            firstName,lastName,email
+            Ramesh,Fadatare,ramesh@gmail.com
+            John,,cena@gmail.com
+            """;
+
+    //unit test for import employees rest api
+    @DisplayName("unit test for import employees rest api")
+    @Test
+    public void givenCsv_whenImportEmployees_thenReturnReport() throws Exception {
+        //given - precondition
+        BDDMockito.given(csvImporter.importCsv(ArgumentMatchers.any(Reader.class), ArgumentMatchers.eq(0L), ArgumentMatchers.any()))
+                .willReturn(new EmployeeImportReport(1, 3, 2, 1, 0, 1,
+                        List.of(new EmployeeImportError(3, "firstName, lastName and email are required")), false, null));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/employees/import")
+                    .contentType(EmployeeImportController.TEXT_CSV)
+                    .content(csv));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(1))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].line").value(3));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for import employees rest api (failed part way)
+    @DisplayName("unit test for import employees rest api (failed part way)")
+    @Test
+    public void givenFailingImport_whenImportEmployees_thenReturnResumePoint() throws Exception {
+        //given - precondition
+        BDDMockito.given(csvImporter.importCsv(ArgumentMatchers.any(Reader.class), ArgumentMatchers.eq(2L), ArgumentMatchers.any()))
+                .willReturn(new EmployeeImportReport(2, 2, 0, 0, 0, 0, List.of(), false, "connection lost"));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/employees/import")
+                    .param("resumeAfterLine", "2")
+                    .contentType(EmployeeImportController.TEXT_CSV)
+                    .content(csv));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isInternalServerError())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.lastCommittedLine").value(2))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.failure").value("connection lost"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for import employees rest api (bad header)
+    @DisplayName("unit test for import employees rest api (bad header)")
+    @Test
+    public void givenBadHeader_whenImportEmployees_thenReturnBadRequest() throws Exception {
+        //given - precondition
+        BDDMockito.given(csvImporter.importCsv(ArgumentMatchers.any(Reader.class), ArgumentMatchers.anyLong(), ArgumentMatchers.any()))
+                .willThrow(new IllegalArgumentException("CSV header has no email column"));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/employees/import")
+                    .contentType(EmployeeImportController.TEXT_CSV)
+                    .content("firstName,lastName\n"));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.unittesting.controller;
+
+import com.example.unittesting.dto.EmployeeWriteStatus;
+import com.example.unittesting.ingest.EmployeeWriteBehindQueue;
+import com.example.unittesting.model.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@WebMvcTest(controllers = EmployeeWriteBehindController.class, properties = "employee.write-behind.enabled=true")
+public class EmployeeWriteBehindControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeWriteBehindQueue writeBehindQueue;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Employee employee = Employee.builder()
+            .firstName("John")
+            .lastName("Doe")
+            .email("john.doe@example.com")
+            .build();
+
+    //unit test for async create employee rest api
+    @DisplayName("unit test for async create employee rest api")
+    @Test
+    public void givenEmployee_whenCreateEmployeeAsync_thenReturnAccepted() {
+        //given - precondition
+        UUID trackingId = UUID.randomUUID();
+        BDDMockito.given(writeBehindQueue.submit(ArgumentMatchers.any(Employee.class)))
+                .willReturn(Optional.of(EmployeeWriteStatus.queued(trackingId)));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/employees/async")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(employee)));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isAccepted())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LOCATION, "http://localhost/api/employees/async/" + trackingId))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.state").value("QUEUED"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for async create employee rest api (queue full)
+    @DisplayName("unit test for async create employee rest api (queue full)")
+    @Test
+    public void givenFullQueue_whenCreateEmployeeAsync_thenReturnTooManyRequests() {
+        //given - precondition
+        BDDMockito.given(writeBehindQueue.submit(ArgumentMatchers.any(Employee.class))).willReturn(Optional.empty());
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/employees/async")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(employee)));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isTooManyRequests())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //unit test for write status rest api
+    @DisplayName("unit test for write status rest api")
+    @Test
+    public void givenTrackingId_whenGetWriteStatus_thenReturnStatus() {
+        //given - precondition
+        UUID trackingId = UUID.randomUUID();
+        BDDMockito.given(writeBehindQueue.getStatus(trackingId))
+                .willReturn(Optional.of(new EmployeeWriteStatus(trackingId, EmployeeWriteStatus.State.CREATED, 7L)));
+
+        //when - action or the behaviour that we are going to test
+        try {
+            ResultActions response = mockMvc.perform(MockMvcRequestBuilders.get("/api/employees/async/{trackingId}", trackingId));
+
+            //then verify the output
+            response.andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.state").value("CREATED"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(7));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.unittesting.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// embedded H2 databases stand in for the primary and its replicas
+class ReplicaRoutingDataSourceTests {
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+    }
+
+    // unit test for routing read-only and read-write transactions
+    @DisplayName("unit test for routing read-only and read-write transactions")
+    @Test
+    void givenReplica_whenTransaction_thenRouteByReadOnlyFlag() {
+        // given - precondition or setup
+        route(ReplicaSelection.ROUND_ROBIN, Duration.ZERO, "replica0");
+
+        //when - action or behaviour that we are going to test
+        String write = inTransaction(false);
+        String read = inTransaction(true);
+
+        //then - verify the output
+        Assertions.assertThat(write).isEqualTo("PRIMARY");
+        Assertions.assertThat(read).isEqualTo("REPLICA0");
+    }
+
+    // unit test for round-robin replica selection
+    @DisplayName("unit test for round-robin replica selection")
+    @Test
+    void givenTwoReplicas_whenReadOnlyTransactions_thenAlternate() {
+        // given - precondition or setup
+        route(ReplicaSelection.ROUND_ROBIN, Duration.ZERO, "replica0", "replica1");
+
+        //when - action or behaviour that we are going to test
+        List<String> reads = List.of(inTransaction(true), inTransaction(true), inTransaction(true));
+
+        //then - verify the output
+        Assertions.assertThat(reads).containsExactly("REPLICA0", "REPLICA1", "REPLICA0");
+    }
+
+    // unit test for least-connections replica selection
+    @DisplayName("unit test for least-connections replica selection")
+    @Test
+    void givenBusyReplica_whenReadOnlyTransaction_thenPickIdleReplica() {
+        // given - precondition or setup
+        route(ReplicaSelection.LEAST_CONNECTIONS, Duration.ZERO, "replica0", "replica1");
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        outer.setReadOnly(true);
+
+        //when - action or behaviour that we are going to test
+        List<String> reads = outer.execute(status -> {
+            // the outer transaction keeps its replica0 connection checked out
+            String busy = currentDatabase();
+            return List.of(busy, inTransaction(true), inTransaction(true));
+        });
+
+        //then - verify the output
+        Assertions.assertThat(reads).containsExactly("REPLICA0", "REPLICA1", "REPLICA1");
+    }
+
+    // unit test for the read-your-writes window
+    @DisplayName("unit test for the read-your-writes window")
+    @Test
+    void givenRecentWrite_whenReadOnlyTransaction_thenReadFromPrimary() {
+        // given - precondition or setup
+        route(ReplicaSelection.ROUND_ROBIN, Duration.ofMinutes(1), "replica0");
+        String beforeWrite = inTransaction(true);
+        inTransaction(false);
+
+        //when - action or behaviour that we are going to test
+        String afterWrite = inTransaction(true);
+
+        //then - verify the output
+        Assertions.assertThat(beforeWrite).isEqualTo("REPLICA0");
+        Assertions.assertThat(afterWrite).isEqualTo("PRIMARY");
+    }
+
+    private void route(ReplicaSelection selection, Duration readYourWritesWindow, String... replicas) {
+        routingDataSource = new ReplicaRoutingDataSource(h2("primary"),
+                Arrays.stream(replicas).map(ReplicaRoutingDataSourceTests::h2).toList(), selection, readYourWritesWindow);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    // runs in a new transaction and reports which database served it
+    private String inTransaction(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name);
+        return dataSource;
+    }
+}
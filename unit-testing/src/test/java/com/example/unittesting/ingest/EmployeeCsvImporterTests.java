@@ -0,0 +1,140 @@
+package com.example.unittesting.ingest;
+
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeImportError;
+import com.example.unittesting.dto.EmployeeImportReport;
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.service.EmployeeService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class EmployeeCsvImporterTests {
+
+    private EmployeeService employeeService;
+
+    private EmployeeCsvImporter csvImporter;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = Mockito.mock(EmployeeService.class);
+        // chunks of 3 lines, at most 2 rows per transaction
+        csvImporter = new EmployeeCsvImporter(employeeService, 3, 2, 10);
+        BDDMockito.given(employeeService.saveEmployees(ArgumentMatchers.anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            return IntStream.range(0, employees.size())
+                    .mapToObj(index -> EmployeeBatchResult.created(index, employees.get(index)))
+                    .toList();
+        });
+    }
+
+    // unit test for importing a csv in bounded transactions
+    @DisplayName("unit test for importing a csv in bounded transactions")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenCsv_whenImportCsv_thenCommitInBoundedBatches() throws IOException {
+        // given - precondition or setup
+        String csv = """
+                email,first_name,last_name
+                ramesh@gmail.com,Ramesh,Fadatare
+                "cena@gmail.com","John","Cena"
+                "tony@gmail.com","Tony \"\"Iron Man\"\"\",Stark
+                bruce@gmail.com,Bruce,Wayne
+                """;
+        List<EmployeeImportReport> progress = new ArrayList<>();
+
+        //when - action or behaviour that we are going to test
+        EmployeeImportReport report = csvImporter.importCsv(new StringReader(csv), 0, progress::add);
+
+        //then - verify the output
+        ArgumentCaptor<List<Employee>> batches = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(employeeService, Mockito.times(3)).saveEmployees(batches.capture());
+        Assertions.assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1, 1);
+        Assertions.assertThat(batches.getAllValues().get(1).get(0).getFirstName()).isEqualTo("Tony \"Iron Man\"");
+        Assertions.assertThat(report.completed()).isTrue();
+        Assertions.assertThat(report.created()).isEqualTo(4);
+        Assertions.assertThat(report.lastCommittedLine()).isEqualTo(5);
+        Assertions.assertThat(progress).extracting(EmployeeImportReport::lastCommittedLine).containsExactly(4L, 5L);
+    }
+
+    // unit test for per-row error reporting
+    @DisplayName("unit test for per-row error reporting")
+    @Test
+    void givenBadRows_whenImportCsv_thenReportThemByLine() throws IOException {
+        // given - precondition or setup
+        String csv = """
+                firstName,lastName,email
+                Ramesh,Fadatare,ramesh@gmail.com
+                John,,cena@gmail.com
+                Tony,Stark
+                Ram,Fadatare,Ramesh@Gmail.com
+                "Bruce,Wayne,bruce@gmail.com
+                """;
+
+        //when - action or behaviour that we are going to test
+        EmployeeImportReport report = csvImporter.importCsv(new StringReader(csv), 0, progress -> {
+        });
+
+        //then - verify the output
+        Assertions.assertThat(report.created()).isEqualTo(1);
+        Assertions.assertThat(report.invalid()).isEqualTo(3);
+        Assertions.assertThat(report.duplicates()).isEqualTo(1);
+        Assertions.assertThat(report.errors()).extracting(EmployeeImportError::line).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    // unit test for resuming an import after a failed transaction
+    @DisplayName("unit test for resuming an import after a failed transaction")
+    @Test
+    void givenFailedTransaction_whenResume_thenSkipCommittedLines() throws IOException {
+        // given - precondition or setup
+        String csv = """
+                firstName,lastName,email
+                Ramesh,Fadatare,ramesh@gmail.com
+                John,Cena,cena@gmail.com
+                Tony,Stark,tony@gmail.com
+                Bruce,Wayne,bruce@gmail.com
+                """;
+        BDDMockito.given(employeeService.saveEmployees(ArgumentMatchers.argThat(employees -> employees.size() == 1)))
+                .willThrow(new IllegalStateException("connection lost"));
+        EmployeeImportReport failed = csvImporter.importCsv(new StringReader(csv), 0, progress -> {
+        });
+        Mockito.reset(employeeService);
+
+        //when - action or behaviour that we are going to test
+        EmployeeImportReport resumed = csvImporter.importCsv(new StringReader(csv), failed.lastCommittedLine(), progress -> {
+        });
+
+        //then - verify the output
+        Assertions.assertThat(failed.completed()).isFalse();
+        Assertions.assertThat(failed.lastCommittedLine()).isEqualTo(3);
+        Assertions.assertThat(resumed.completed()).isTrue();
+        Assertions.assertThat(resumed.resumedAfterLine()).isEqualTo(3);
+        Assertions.assertThat(resumed.rowsRead()).isEqualTo(2);
+        Mockito.verify(employeeService).saveEmployees(ArgumentMatchers.argThat(employees -> employees.size() == 2
+                && employees.get(0).getEmail().equals("tony@gmail.com")));
+    }
+
+    // unit test for a header without a required column
+    @DisplayName("unit test for a header without a required column")
+    @Test
+    void givenHeaderWithoutEmail_whenImportCsv_thenThrow() {
+        //when - action or behaviour that we are going to test
+        Assertions.assertThatThrownBy(() -> csvImporter.importCsv(new StringReader("firstName,lastName\n"), 0, progress -> {
+        }))
+                //then - verify the output
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("email");
+        Mockito.verifyNoInteractions(employeeService);
+    }
+}
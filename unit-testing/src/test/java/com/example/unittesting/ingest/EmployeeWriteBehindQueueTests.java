@@ -0,0 +1,121 @@
+package com.example.unittesting.ingest;
+
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeWriteStatus;
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.service.EmployeeService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+class EmployeeWriteBehindQueueTests {
+
+    private EmployeeService employeeService;
+
+    private EmployeeWriteBehindQueue writeBehindQueue;
+
+    private Employee employee1;
+
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = Mockito.mock(EmployeeService.class);
+        writeBehindQueue = new EmployeeWriteBehindQueue(employeeService, 2, 10, Duration.ofMillis(10), Duration.ofMinutes(1), 100);
+        employee1 = Employee.builder().firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build();
+        employee2 = Employee.builder().firstName("John").lastName("Cena").email("cena@gmail.com").build();
+    }
+
+    // unit test for submitting to a full queue
+    @DisplayName("unit test for submitting to a full queue")
+    @Test
+    void givenFullQueue_whenSubmit_thenReject() {
+        // given - precondition or setup
+        writeBehindQueue.submit(employee1);
+        writeBehindQueue.submit(employee2);
+
+        //when - action or behaviour that we are going to test
+        Optional<EmployeeWriteStatus> status = writeBehindQueue.submit(employee1.toBuilder().email("other@gmail.com").build());
+
+        //then - verify the output
+        Assertions.assertThat(status).isEmpty();
+    }
+
+    // unit test for draining queued creates on stop
+    @DisplayName("unit test for draining queued creates on stop")
+    @Test
+    void givenQueuedCreates_whenStop_thenWriteThemInOneBatch() {
+        // given - precondition or setup
+        BDDMockito.given(employeeService.saveEmployees(List.of(employee1, employee2))).willReturn(List.of(
+                new EmployeeBatchResult(0, employee1.getEmail(), EmployeeBatchResult.Status.CREATED, 1L),
+                new EmployeeBatchResult(1, employee2.getEmail(), EmployeeBatchResult.Status.DUPLICATE, null)));
+        EmployeeWriteStatus first = writeBehindQueue.submit(employee1).orElseThrow();
+        EmployeeWriteStatus second = writeBehindQueue.submit(employee2).orElseThrow();
+
+        //when - action or behaviour that we are going to test
+        writeBehindQueue.start();
+        writeBehindQueue.stop();
+
+        //then - verify the output
+        Assertions.assertThat(first.state()).isEqualTo(EmployeeWriteStatus.State.QUEUED);
+        Assertions.assertThat(writeBehindQueue.getStatus(first.trackingId()))
+                .contains(new EmployeeWriteStatus(first.trackingId(), EmployeeWriteStatus.State.CREATED, 1L));
+        Assertions.assertThat(writeBehindQueue.getStatus(second.trackingId()).orElseThrow().state())
+                .isEqualTo(EmployeeWriteStatus.State.DUPLICATE);
+        Mockito.verify(employeeService, Mockito.times(1)).saveEmployees(ArgumentMatchers.anyList());
+        Assertions.assertThat(writeBehindQueue.submit(employee1)).isEmpty();
+    }
+
+    // unit test for a failed batch
+    @DisplayName("unit test for a failed batch")
+    @Test
+    void givenFailingBatch_whenDrained_thenMarkCreatesFailed() {
+        // given - precondition or setup
+        BDDMockito.given(employeeService.saveEmployees(ArgumentMatchers.anyList())).willThrow(new IllegalStateException("database down"));
+        EmployeeWriteStatus status = writeBehindQueue.submit(employee1).orElseThrow();
+
+        //when - action or behaviour that we are going to test
+        writeBehindQueue.start();
+        writeBehindQueue.stop();
+
+        //then - verify the output
+        Assertions.assertThat(writeBehindQueue.getStatus(status.trackingId()).orElseThrow().state())
+                .isEqualTo(EmployeeWriteStatus.State.FAILED);
+    }
+
+    // unit test for a batch with one conflicting row
+    @DisplayName("unit test for a batch with one conflicting row")
+    @Test
+    void givenOneConflictingRow_whenDrained_thenOnlyThatCreateFails() {
+        // given - precondition or setup
+        BDDMockito.given(employeeService.saveEmployees(ArgumentMatchers.anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            if (employees.size() > 1 || employees.get(0).getEmail().equals(employee2.getEmail())) {
+                throw new DataIntegrityViolationException("uk_employee_email");
+            }
+            return List.of(new EmployeeBatchResult(0, employees.get(0).getEmail(), EmployeeBatchResult.Status.CREATED, 1L));
+        });
+        EmployeeWriteStatus first = writeBehindQueue.submit(employee1).orElseThrow();
+        EmployeeWriteStatus second = writeBehindQueue.submit(employee2).orElseThrow();
+
+        //when - action or behaviour that we are going to test
+        writeBehindQueue.start();
+        writeBehindQueue.stop();
+
+        //then - verify the output
+        Assertions.assertThat(writeBehindQueue.getStatus(first.trackingId()))
+                .contains(new EmployeeWriteStatus(first.trackingId(), EmployeeWriteStatus.State.CREATED, 1L));
+        Assertions.assertThat(writeBehindQueue.getStatus(second.trackingId()).orElseThrow().state())
+                .isEqualTo(EmployeeWriteStatus.State.FAILED);
+        Mockito.verify(employeeService, Mockito.times(3)).saveEmployees(ArgumentMatchers.anyList());
+    }
+}
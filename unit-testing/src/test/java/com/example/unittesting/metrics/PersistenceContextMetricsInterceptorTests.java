@@ -0,0 +1,84 @@
+package com.example.unittesting.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.Session;
+import org.hibernate.stat.SessionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class PersistenceContextMetricsInterceptorTests {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private SessionStatistics sessionStatistics;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PersistenceContextMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new PersistenceContextMetricsInterceptor(entityManagerFactory, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.hasResource(entityManagerFactory)) {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        }
+    }
+
+    // unit test for recording the persistence context size
+    @DisplayName("unit test for recording the persistence context size")
+    @Test
+    void givenBoundEntityManager_whenPostHandle_thenRecordManagedEntities() {
+        // given - precondition or setup
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        BDDMockito.given(entityManager.unwrap(Session.class)).willReturn(session);
+        BDDMockito.given(session.getStatistics()).willReturn(sessionStatistics);
+        BDDMockito.given(sessionStatistics.getEntityCount()).willReturn(42);
+
+        //when - action or behaviour that we are going to test
+        interceptor.postHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object(), null);
+
+        //then - verify the output
+        DistributionSummary summary = meterRegistry.get("hibernate.persistence.context.entities").summary();
+        Assertions.assertThat(summary.count()).isEqualTo(1);
+        Assertions.assertThat(summary.totalAmount()).isEqualTo(42);
+    }
+
+    // unit test for requests without a persistence context
+    @DisplayName("unit test for requests without a persistence context")
+    @Test
+    void givenNoBoundEntityManager_whenPostHandle_thenRecordNothing() {
+        //when - action or behaviour that we are going to test
+        interceptor.postHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object(), null);
+
+        //then - verify the output
+        Assertions.assertThat(meterRegistry.get("hibernate.persistence.context.entities").summary().count()).isZero();
+    }
+}
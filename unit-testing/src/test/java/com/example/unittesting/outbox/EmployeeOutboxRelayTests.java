@@ -0,0 +1,119 @@
+package com.example.unittesting.outbox;
+
+import com.example.unittesting.dto.EmployeeChangeEvent;
+import com.example.unittesting.dto.EmployeeChangeFeed;
+import com.example.unittesting.dto.EmployeePatch;
+import com.example.unittesting.model.Employee;
+import com.example.unittesting.model.EmployeeChange;
+import com.example.unittesting.repository.EmployeeChangeRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// runs without the test transaction so every relay batch commits or rolls back on its own
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeOutboxRelayTests {
+
+    @Autowired
+    private EmployeeChangeRepository changeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private EmployeeOutbox employeeOutbox;
+
+    private InMemoryChangeEventSink sink;
+
+    private final Employee employee = Employee.builder()
+            .id(1L)
+            .firstName("Ramesh")
+            .lastName("Fadatare")
+            .email("ramesh@gmail.com")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        employeeOutbox = new EmployeeOutbox(changeRepository);
+        sink = new InMemoryChangeEventSink(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeRepository.deleteAllInBatch();
+    }
+
+    // unit test for relaying outbox rows in batches
+    @DisplayName("unit test for relaying outbox rows in batches")
+    @Test
+    void givenChanges_whenRelay_thenPublishInOrderAndServeFeed() {
+        // given - precondition or setup
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeOutbox.created(employee);
+            employeeOutbox.patched(1L, new EmployeePatch("Ram", null, null), 1L);
+            employeeOutbox.deleted(1L);
+        });
+        EmployeeOutboxRelay relay = new EmployeeOutboxRelay(changeRepository, sink, transactionManager, 2, Duration.ofDays(7),
+                Duration.ofMillis(200), Duration.ofHours(1));
+
+        //when - action or behaviour that we are going to test
+        relay.relay();
+        relay.relay();
+
+        //then - verify the output
+        Assertions.assertThat(sink.recentEvents())
+                .extracting(EmployeeChangeEvent::seq, EmployeeChangeEvent::type)
+                .containsExactly(
+                        Assertions.tuple(1L, EmployeeChange.Type.CREATED),
+                        Assertions.tuple(2L, EmployeeChange.Type.UPDATED),
+                        Assertions.tuple(3L, EmployeeChange.Type.DELETED));
+        EmployeeChangeFeed feed = employeeOutbox.changesSince(1, 10);
+        Assertions.assertThat(feed.changes()).extracting(EmployeeChangeEvent::seq).containsExactly(2L, 3L);
+        Assertions.assertThat(feed.changes().get(0).firstName()).isEqualTo("Ram");
+        Assertions.assertThat(feed.changes().get(0).lastName()).isNull();
+        Assertions.assertThat(feed.changes().get(0).version()).isEqualTo(1L);
+        Assertions.assertThat(feed.next()).isEqualTo(3);
+        Assertions.assertThat(employeeOutbox.changesSince(3, 10).next()).isEqualTo(3);
+    }
+
+    // unit test for retrying a batch the sink rejected
+    @DisplayName("unit test for retrying a batch the sink rejected")
+    @Test
+    void givenFailingSink_whenRelay_thenRetryWithSameSequence() {
+        // given - precondition or setup
+        transactionTemplate.executeWithoutResult(status -> employeeOutbox.created(employee));
+        AtomicBoolean sinkDown = new AtomicBoolean(true);
+        ChangeEventSink flakySink = events -> {
+            if (sinkDown.getAndSet(false)) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            sink.publish(events);
+        };
+        EmployeeOutboxRelay relay = new EmployeeOutboxRelay(changeRepository, flakySink, transactionManager, 10, Duration.ofDays(7),
+                Duration.ofMillis(200), Duration.ofHours(1));
+
+        //when - action or behaviour that we are going to test
+        relay.relay();
+        List<EmployeeChangeEvent> afterFailure = employeeOutbox.changesSince(0, 10).changes();
+        relay.relay();
+
+        //then - verify the output
+        Assertions.assertThat(afterFailure).isEmpty();
+        Assertions.assertThat(sink.recentEvents()).extracting(EmployeeChangeEvent::seq).containsExactly(1L);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.unittesting.repository;
 
+import com.example.unittesting.dto.EmployeeSummary;
 import com.example.unittesting.model.Employee;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,9 +8,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @DataJpaTest
 class EmployeeRepositoryTests {
@@ -47,6 +57,25 @@ class EmployeeRepositoryTests {
         Assertions.assertThat(savedEmployee.getId()).isPositive();
     }
 
+    // unit test for saving a duplicate email
+    @DisplayName("unit test for saving a duplicate email")
+    @Test
+    void givenExistingEmail_whenSaveAndFlush_thenThrowDataIntegrityViolation() {
+        // given - precondition or setup
+        employeeRepository.saveAndFlush(employee);
+
+        Employee duplicate = Employee.builder()
+                .firstName("Suresh")
+                .lastName("Suresh")
+                .email(employee.getEmail())
+                .build();
+
+        //when - action or behaviour that we are going to test
+        //then - verify the output
+        Assertions.assertThatThrownBy(() -> employeeRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     // unit test for getting all employees
     @DisplayName("unit test for getting all employees")
     @Test
@@ -77,6 +106,90 @@ class EmployeeRepositoryTests {
                 .hasSize(2);
     }
 
+    // unit test for keyset pagination by id
+    @DisplayName("unit test for keyset pagination by id")
+    @Test
+    void givenEmployeesList_whenFindByIdGreaterThan_thenReturnNextEmployees() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("Suresh")
+                .lastName("Suresh")
+                .email("suresh@gmail.com")
+                .build();
+
+        Employee employee3 = Employee.builder()
+                .firstName("Mahesh")
+                .lastName("Mahesh")
+                .email("mahesh@gmail.com")
+                .build();
+
+        employeeRepository.saveAll(List.of(employee, employee2, employee3));
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeSummary> employeeList = employeeRepository.findSummariesByIdGreaterThan(employee.getId(), Limit.of(1));
+
+        //then - verify the output
+        Assertions.assertThat(employeeList)
+                .hasSize(1)
+                .first()
+                .extracting(EmployeeSummary::id)
+                .isEqualTo(employee2.getId());
+    }
+
+    // unit test for streaming all employees ordered by id
+    @DisplayName("unit test for streaming all employees ordered by id")
+    @Test
+    void givenEmployeesList_whenStreamAll_thenReturnEmployeesOrderedById() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("Suresh")
+                .lastName("Suresh")
+                .email("suresh@gmail.com")
+                .build();
+
+        employeeRepository.saveAll(List.of(employee, employee2));
+
+        //when - action or behaviour that we are going to test
+        List<Long> ids;
+        try (Stream<Employee> employees = employeeRepository.streamAllByOrderByIdAsc()) {
+            ids = employees.map(Employee::getId).toList();
+        }
+
+        //then - verify the output
+        Assertions.assertThat(ids).containsExactly(employee.getId(), employee2.getId());
+    }
+
+    // unit test for finding existing emails in one query
+    @DisplayName("unit test for finding existing emails in one query")
+    @Test
+    void givenEmployeeObject_whenFindExistingEmails_thenReturnOnlyStoredEmails() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        //when - action or behaviour that we are going to test
+        List<String> emails = employeeRepository.findExistingEmails(List.of(employee.getEmail(), "unknown@gmail.com"));
+
+        //then - verify the output
+        Assertions.assertThat(emails).containsExactly(employee.getEmail());
+    }
+
+    // unit test for selecting only the requested employee columns
+    @DisplayName("unit test for selecting only the requested employee columns")
+    @Test
+    void givenEmployeeObject_whenFindAllFields_thenReturnOnlyRequestedFields() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        //when - action or behaviour that we are going to test
+        List<Map<String, Object>> rows = employeeRepository.findAllFields(List.of("email", "id"));
+
+        //then - verify the output
+        Assertions.assertThat(rows).hasSize(1);
+        Assertions.assertThat(rows.get(0)).containsOnlyKeys("email", "id");
+        Assertions.assertThat(rows.get(0).keySet()).containsExactly("email", "id");
+        Assertions.assertThat(rows.get(0)).containsEntry("email", employee.getEmail());
+    }
+
     // unit test for get employee by id operation
     @DisplayName("unit test for get employee by id operation")
     @Test
@@ -148,6 +261,61 @@ class EmployeeRepositoryTests {
 
     }
 
+    // unit test for partial update operation
+    @DisplayName("unit test for partial update operation")
+    @Test
+    void givenEmployeeObject_whenPatchById_thenUpdateOnlySuppliedColumns() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        //when - action or behaviour that we are going to test
+        int updatedRows = employeeRepository.patchById(employee.getId(), null, null, "updated@gmail.com");
+        int missingRows = employeeRepository.patchById(employee.getId() + 1000, "Nobody", null, null);
+
+        //then - verify the output
+        Optional<Employee> employeeDBOptional = employeeRepository.findById(employee.getId());
+        Assertions.assertThat(updatedRows).isEqualTo(1);
+        Assertions.assertThat(missingRows).isZero();
+        Assertions.assertThat(employeeDBOptional).isPresent();
+        Assertions.assertThat(employeeDBOptional.get().getEmail()).isEqualTo("updated@gmail.com");
+        Assertions.assertThat(employeeDBOptional.get().getFirstName()).isEqualTo("Ramesh");
+        Assertions.assertThat(employeeDBOptional.get().getVersion()).isEqualTo(1L);
+    }
+
+    // unit test for a partial update without any column
+    @DisplayName("unit test for a partial update without any column")
+    @Test
+    void givenNoColumns_whenPatchById_thenThrowAndKeepVersion() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        //when - action or behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(InvalidDataAccessApiUsageException.class, () -> {
+            employeeRepository.patchById(employee.getId(), null, null, null);
+        });
+
+        //then - verify the output
+        Assertions.assertThat(employeeRepository.findVersionById(employee.getId())).contains(0L);
+    }
+
+    // unit test for saving a stale copy of an employee
+    @DisplayName("unit test for saving a stale copy of an employee")
+    @Test
+    void givenStaleEmployeeCopy_whenSave_thenThrowOptimisticLockingFailure() {
+        // given - precondition or setup
+        employeeRepository.saveAndFlush(employee);
+        Employee staleCopy = employee.toBuilder().firstName("Stale").build();
+        employeeRepository.patchById(employee.getId(), "Fresh", null, null);
+
+        //when - action or behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+            employeeRepository.saveAndFlush(staleCopy);
+        });
+
+        //then - verify the output
+        Assertions.assertThat(employeeRepository.findVersionById(employee.getId())).contains(1L);
+    }
+
     // unit test for delete employee operation
     @DisplayName("unit test for delete employee operation")
     @Test
@@ -186,10 +354,11 @@ class EmployeeRepositoryTests {
         //when - action or behaviour that we are going to test
         String firstName = employee.getFirstName();
         String lastName = employee.getLastName();
-        Employee employeeDB = employeeRepository.findByJPQLIndex(firstName, lastName);
+        List<Employee> employeeDBList = employeeRepository.findByJPQLIndex(firstName, lastName);
 
         //then - verify the output
-        Assertions.assertThat(employeeDB).isNotNull();
+        Assertions.assertThat(employeeDBList).hasSize(1);
+        Employee employeeDB = employeeDBList.get(0);
         Assertions.assertThat(employeeDB.getFirstName()).isEqualTo(firstName);
         Assertions.assertThat(employeeDB.getLastName()).isEqualTo(lastName);
 
@@ -211,10 +380,11 @@ class EmployeeRepositoryTests {
         //when - action or behaviour that we are going to test
         String firstName = employee.getFirstName();
         String lastName = employee.getLastName();
-        Employee employeeDB = employeeRepository.findByJPQLNamed(firstName, lastName);
+        List<Employee> employeeDBList = employeeRepository.findByJPQLNamed(firstName, lastName);
 
         //then - verify the output
-        Assertions.assertThat(employeeDB).isNotNull();
+        Assertions.assertThat(employeeDBList).hasSize(1);
+        Employee employeeDB = employeeDBList.get(0);
         Assertions.assertThat(employeeDB.getFirstName()).isEqualTo(firstName);
         Assertions.assertThat(employeeDB.getLastName()).isEqualTo(lastName);
 
@@ -235,10 +405,11 @@ class EmployeeRepositoryTests {
         //when - action or behaviour that we are going to test
         String firstName = employee.getFirstName();
         String lastName = employee.getLastName();
-        Employee employeeDB = employeeRepository.findByNativeSQLIndexedParam(firstName, lastName);
+        List<Employee> employeeDBList = employeeRepository.findByNativeSQLIndexedParam(firstName, lastName);
 
         //then - verify the output
-        Assertions.assertThat(employeeDB).isNotNull();
+        Assertions.assertThat(employeeDBList).hasSize(1);
+        Employee employeeDB = employeeDBList.get(0);
         Assertions.assertThat(employeeDB.getFirstName()).isEqualTo(firstName);
         Assertions.assertThat(employeeDB.getLastName()).isEqualTo(lastName);
 
@@ -259,11 +430,135 @@ class EmployeeRepositoryTests {
         //when - action or behaviour that we are going to test
         String firstName = employee.getFirstName();
         String lastName = employee.getLastName();
-        Employee employeeDB = employeeRepository.findByNativeSQLNamedParam(firstName, lastName);
+        List<Employee> employeeDBList = employeeRepository.findByNativeSQLNamedParam(firstName, lastName);
 
         //then - verify the output
-        Assertions.assertThat(employeeDB).isNotNull();
+        Assertions.assertThat(employeeDBList).hasSize(1);
+        Employee employeeDB = employeeDBList.get(0);
         Assertions.assertThat(employeeDB.getFirstName()).isEqualTo(firstName);
         Assertions.assertThat(employeeDB.getLastName()).isEqualTo(lastName);
     }
+
+    // unit test for delete by id without loading the entity
+    @DisplayName("unit test for delete by id without loading the entity")
+    @Test
+    void givenEmployee_whenDeleteEmployeeById_thenReturnAffectedRows() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        //when - action or behaviour that we are going to test
+        int deletedRows = employeeRepository.deleteEmployeeById(employee.getId());
+        int deletedAgainRows = employeeRepository.deleteEmployeeById(employee.getId());
+
+        //then - verify the output
+        Assertions.assertThat(deletedRows).isEqualTo(1);
+        Assertions.assertThat(deletedAgainRows).isZero();
+        Assertions.assertThat(employeeRepository.findById(employee.getId())).isEmpty();
+    }
+
+    // unit test for bulk delete by ids
+    @DisplayName("unit test for bulk delete by ids")
+    @Test
+    void givenEmployeesList_whenDeleteEmployeesByIdIn_thenReturnAffectedRows() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("Suresh")
+                .lastName("Suresh")
+                .email("suresh@gmail.com")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee2));
+
+        //when - action or behaviour that we are going to test
+        int deletedRows = employeeRepository.deleteEmployeesByIdIn(List.of(employee.getId(), employee2.getId(), -1L));
+
+        //then - verify the output
+        Assertions.assertThat(deletedRows).isEqualTo(2);
+        Assertions.assertThat(employeeRepository.findAll()).isEmpty();
+    }
+
+    // unit test for multi-get by ids
+    @DisplayName("unit test for multi-get by ids")
+    @Test
+    void givenEmployeesList_whenFindAllByIdIn_thenReturnOnlyExistingEmployees() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("Suresh")
+                .lastName("Suresh")
+                .email("suresh@gmail.com")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee2));
+
+        //when - action or behaviour that we are going to test
+        List<Employee> employees = employeeRepository.findAllByIdIn(List.of(employee2.getId(), -1L));
+
+        //then - verify the output
+        Assertions.assertThat(employees).extracting(Employee::getEmail).containsExactly("suresh@gmail.com");
+    }
+
+    // unit test for locking the ids of a bulk delete
+    @DisplayName("unit test for locking the ids of a bulk delete")
+    @Test
+    void givenEmployeesList_whenFindExistingIdsForUpdate_thenReturnOnlyExistingIds() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        //when - action or behaviour that we are going to test
+        List<Long> ids = employeeRepository.findExistingIdsForUpdate(List.of(employee.getId(), -1L));
+
+        //then - verify the output
+        Assertions.assertThat(ids).containsExactly(employee.getId());
+    }
+
+    // unit test for name queries matching more than one employee
+    @DisplayName("unit test for name queries matching more than one employee")
+    @Test
+    void givenEmployeesWithSameName_whenFindByJPQLNamed_thenReturnAllMatches() {
+        // given - precondition or setup
+        Employee namesake = Employee.builder()
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email("ramesh2@gmail.com")
+                .build();
+        employeeRepository.saveAll(List.of(employee, namesake));
+
+        //when - action or behaviour that we are going to test
+        List<Employee> employeeDBList = employeeRepository.findByJPQLNamed(employee.getFirstName(), employee.getLastName());
+
+        //then - verify the output
+        Assertions.assertThat(employeeDBList).hasSize(2);
+    }
+
+    // unit test for last name prefix search
+    @DisplayName("unit test for last name prefix search")
+    @Test
+    void givenEmployeesList_whenFindByLastNameStartingWith_thenReturnMatchingSlice() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("Suresh")
+                .lastName("Ramanathan")
+                .email("suresh@gmail.com")
+                .build();
+        Employee employee3 = Employee.builder()
+                .firstName("Mahesh")
+                .lastName("Mahesh")
+                .email("mahesh@gmail.com")
+                .build();
+        Employee employee4 = Employee.builder()
+                .firstName("Percent")
+                .lastName("Ra%")
+                .email("percent@gmail.com")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee2, employee3, employee4));
+
+        //when - action or behaviour that we are going to test
+        Slice<EmployeeSummary> firstPage = employeeRepository.findSummariesByLastNameStartingWith("Ram",
+                PageRequest.of(0, 1, Sort.by("lastName", "firstName", "id")));
+        Slice<EmployeeSummary> wildcardPage = employeeRepository.findSummariesByLastNameStartingWith("Ra%",
+                PageRequest.of(0, 10, Sort.by("lastName", "firstName", "id")));
+
+        //then - verify the output
+        Assertions.assertThat(firstPage.getContent()).extracting(EmployeeSummary::lastName).containsExactly("Ramanathan");
+        Assertions.assertThat(firstPage.hasNext()).isTrue();
+        Assertions.assertThat(wildcardPage.getContent()).extracting(EmployeeSummary::lastName).containsExactly("Ra%");
+    }
 }
@@ -0,0 +1,112 @@
+package com.example.unittesting.search;
+
+import com.example.unittesting.dto.EmployeeSearchHit;
+import com.example.unittesting.model.Employee;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class EmployeeSearchIndexTests {
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        employeeSearchIndex = new EmployeeSearchIndex();
+        employeeSearchIndex.index(Employee.builder().id(1L).firstName("John").lastName("Doe").email("john@doe.com").build());
+        employeeSearchIndex.index(Employee.builder().id(2L).firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build());
+        employeeSearchIndex.index(Employee.builder().id(3L).firstName("Johanna").lastName("Smith").email("jsmith@gmail.com").build());
+    }
+
+    // unit test for searching with a typo
+    @DisplayName("unit test for searching with a typo")
+    @Test
+    void givenIndexedEmployees_whenSearchWithTypo_thenReturnClosestMatchFirst() {
+        // given - precondition or setup
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeSearchHit> hits = employeeSearchIndex.search("Jhon", 10);
+
+        //then - verify the output
+        Assertions.assertThat(hits).isNotEmpty();
+        Assertions.assertThat(hits.get(0).id()).isEqualTo(1L);
+        Assertions.assertThat(hits).extracting(EmployeeSearchHit::id).doesNotContain(2L);
+    }
+
+    // unit test for searching with a prefix
+    @DisplayName("unit test for searching with a prefix")
+    @Test
+    void givenIndexedEmployees_whenSearchWithPrefix_thenReturnRankedMatches() {
+        // given - precondition or setup
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeSearchHit> hits = employeeSearchIndex.search("rame fada", 10);
+
+        //then - verify the output
+        Assertions.assertThat(hits).extracting(EmployeeSearchHit::id).containsExactly(2L);
+        Assertions.assertThat(hits.get(0).score()).isBetween(0.5, 1.0);
+    }
+
+    // unit test for whole-token matches ranking above prefix matches
+    @DisplayName("unit test for whole-token matches ranking above prefix matches")
+    @Test
+    void givenExactAndPrefixMatches_whenSearch_thenExactMatchRanksFirst() {
+        // given - precondition or setup
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeSearchHit> hits = employeeSearchIndex.search("john", 10);
+
+        //then - verify the output
+        Assertions.assertThat(hits).extracting(EmployeeSearchHit::id).containsExactly(1L, 3L);
+        Assertions.assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    // unit test for searching after patch and remove
+    @DisplayName("unit test for searching after patch and remove")
+    @Test
+    void givenPatchedAndRemovedEmployees_whenSearch_thenReturnCurrentState() {
+        // given - precondition or setup
+        employeeSearchIndex.patch(1L, null, "Walker", "john@walker.com");
+        employeeSearchIndex.remove(3L);
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeSearchHit> byOldName = employeeSearchIndex.search("Doe", 10);
+        List<EmployeeSearchHit> byNewName = employeeSearchIndex.search("Walker", 10);
+        List<EmployeeSearchHit> removed = employeeSearchIndex.search("Johanna", 10);
+
+        //then - verify the output
+        Assertions.assertThat(byOldName).isEmpty();
+        Assertions.assertThat(byNewName).extracting(EmployeeSearchHit::firstName).containsExactly("John");
+        Assertions.assertThat(removed).extracting(EmployeeSearchHit::id).doesNotContain(3L);
+        Assertions.assertThat(employeeSearchIndex.size()).isEqualTo(2);
+    }
+
+    // unit test for changes made while the index is rebuilt
+    @DisplayName("unit test for changes made while the index is rebuilt")
+    @Test
+    void givenChangesDuringRebuild_whenRebuildCompletes_thenIndexHasLoadedRowsAndChanges() {
+        // given - precondition or setup
+        List<List<EmployeeSearchHit>> searchesDuringLoad = new ArrayList<>();
+
+        //when - action or behaviour that we are going to test
+        employeeSearchIndex.rebuild(sink -> {
+            sink.accept(Employee.builder().id(1L).firstName("John").lastName("Doe").email("john@doe.com").build());
+            employeeSearchIndex.remove(1L);
+            employeeSearchIndex.index(Employee.builder().id(4L).firstName("Priya").lastName("Shah").email("priya@shah.com").build());
+            searchesDuringLoad.add(employeeSearchIndex.search("Ramesh", 10));
+            sink.accept(Employee.builder().id(2L).firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build());
+            employeeSearchIndex.patch(2L, "Ram", null, null);
+        });
+
+        //then - verify the output
+        Assertions.assertThat(searchesDuringLoad.get(0)).extracting(EmployeeSearchHit::id).containsExactly(2L);
+        Assertions.assertThat(employeeSearchIndex.search("John Doe", 10)).isEmpty();
+        Assertions.assertThat(employeeSearchIndex.search("Priya", 10)).extracting(EmployeeSearchHit::id).containsExactly(4L);
+        Assertions.assertThat(employeeSearchIndex.search("Fadatare", 10)).extracting(EmployeeSearchHit::firstName).containsExactly("Ram");
+        Assertions.assertThat(employeeSearchIndex.size()).isEqualTo(2);
+    }
+}
@@ -1,23 +1,44 @@
 package com.example.unittesting.service;
 
-import com.example.unittesting.exception.ResourceNotFoundException;
+import com.example.unittesting.cache.EmployeeCache;
+import com.example.unittesting.dto.EmployeeBatchResult;
+import com.example.unittesting.dto.EmployeeLookupResult;
+import com.example.unittesting.dto.EmployeePage;
+import com.example.unittesting.dto.EmployeePatch;
+import com.example.unittesting.dto.EmployeeSearchHit;
+import com.example.unittesting.dto.EmployeeSlice;
+import com.example.unittesting.dto.EmployeeSummary;
+import com.example.unittesting.exception.DuplicateResourceException;
 import com.example.unittesting.model.Employee;
+import com.example.unittesting.outbox.EmployeeOutbox;
 import com.example.unittesting.repository.EmployeeRepository;
+import com.example.unittesting.search.EmployeeSearchIndex;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 public class EmployeeServiceTests {
@@ -25,6 +46,18 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Mock
+    private EmployeeOutbox employeeOutbox;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -45,9 +78,7 @@ public class EmployeeServiceTests {
                 .email("john@doe.com")
                 .build();
 
-        BDDMockito.given(employeeRepository.findByEmail(employee.getEmail())).willReturn(Optional.empty());
-
-        BDDMockito.given(employeeRepository.save(employee)).willReturn(employee);
+        BDDMockito.given(employeeRepository.saveAndFlush(employee)).willReturn(employee);
 
         //when - action or the behaviour that we are going to test
         Employee savedEmployee = employeeService.saveEmployee(employee);
@@ -55,7 +86,7 @@ public class EmployeeServiceTests {
 
         //then verify the output
         Assertions.assertThat(employee).isEqualTo(savedEmployee);
-
+        Mockito.verify(employeeOutbox).created(savedEmployee);
     }
 
     //unit test for saveEmployee method -> throws exception
@@ -69,37 +100,140 @@ public class EmployeeServiceTests {
                 .email("john@doe.com")
                 .build();
 
-        BDDMockito.given(employeeRepository.findByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+        BDDMockito.given(employeeRepository.saveAndFlush(employee)).willThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, "PUBLIC.UK_EMPLOYEE_EMAIL_INDEX_1")));
 
         //when - action or the behaviour that we are going to test
-        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+        org.junit.jupiter.api.Assertions.assertThrows(DuplicateResourceException.class, () -> {
             employeeService.saveEmployee(employee);
         });
 
         //then verify the output
-        Mockito.verify(employeeRepository, Mockito.never()).save(Mockito.any(Employee.class)) ;
+        Mockito.verify(employeeRepository, Mockito.never()).findByEmail(Mockito.anyString());
+        Mockito.verify(employeeCache, Mockito.never()).put(Mockito.any(Employee.class), Mockito.anyLong());
     }
 
-    // unit test for getAllEmployees method
-    @DisplayName("unit test for getAllEmployees method")
+    //unit test for saveEmployee method -> other constraint violations are not duplicates
+    @DisplayName("unit test for saveEmployee method with a non-email constraint violation")
     @Test
-    void givenEmployeesList_whenGetEmployees_thenReturnEmployeesList() {
-        // given - precondition or setup
-        Employee employee1 = Employee.builder()
+    void givenOtherConstraintViolation_whenSaveEmployee_thenRethrowException() {
+        //given - precondition
+        Employee employee = Employee.builder()
                 .firstName("John")
-                .lastName("Doe")
                 .email("john@doe.com")
                 .build();
 
-        Employee employee2 = Employee.builder()
+        BDDMockito.given(employeeRepository.saveAndFlush(employee)).willThrow(new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", null, "LAST_NAME")));
+
+        //when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(DataIntegrityViolationException.class, () -> {
+            employeeService.saveEmployee(employee);
+        });
+    }
+
+    //unit test for saveEmployees method
+    @DisplayName("unit test for saveEmployees method")
+    @Test
+    void givenEmployeesWithDuplicates_whenSaveEmployees_thenSaveOnlyNewEmployees() {
+        //given - precondition
+        Employee newEmployee = Employee.builder().firstName("John").lastName("Doe").email("john@doe.com").build();
+        Employee existingEmployee = Employee.builder().firstName("Jane").lastName("Doe").email("jane@doe.com").build();
+        Employee repeatedEmployee = Employee.builder().firstName("John").lastName("Doe").email("john@doe.com").build();
+        Employee incompleteEmployee = Employee.builder().firstName("Jim").email("jim@doe.com").build();
+
+        BDDMockito.given(employeeRepository.findExistingEmails(List.of("john@doe.com", "jane@doe.com", "jim@doe.com")))
+                .willReturn(List.of("jane@doe.com"));
+
+        //when - action or the behaviour that we are going to test
+        List<EmployeeBatchResult> results = employeeService.saveEmployees(
+                List.of(newEmployee, existingEmployee, repeatedEmployee, incompleteEmployee));
+
+        //then verify the output
+        Assertions.assertThat(results)
+                .extracting(EmployeeBatchResult::status)
+                .containsExactly(EmployeeBatchResult.Status.CREATED, EmployeeBatchResult.Status.DUPLICATE,
+                        EmployeeBatchResult.Status.DUPLICATE, EmployeeBatchResult.Status.INVALID);
+        Mockito.verify(employeeRepository, Mockito.times(1)).save(Mockito.any(Employee.class));
+        Mockito.verify(employeeRepository).save(newEmployee);
+        Mockito.verify(employeeOutbox).created(newEmployee);
+    }
+
+    //unit test for saveEmployees method -> emails differing only in case
+    @DisplayName("unit test for saveEmployees method with emails differing only in case")
+    @Test
+    void givenEmailsDifferingInCase_whenSaveEmployees_thenTreatAsDuplicates() {
+        //given - precondition
+        Employee newEmployee = Employee.builder().firstName("John").lastName("Doe").email("John@Doe.com").build();
+        Employee repeatedEmployee = Employee.builder().firstName("John").lastName("Doe").email("john@doe.com").build();
+        Employee existingEmployee = Employee.builder().firstName("Jane").lastName("Doe").email("jane@doe.com").build();
+
+        BDDMockito.given(employeeRepository.findExistingEmails(List.of("John@Doe.com", "john@doe.com", "jane@doe.com")))
+                .willReturn(List.of("Jane@Doe.com"));
+
+        //when - action or the behaviour that we are going to test
+        List<EmployeeBatchResult> results = employeeService.saveEmployees(
+                List.of(newEmployee, repeatedEmployee, existingEmployee));
+
+        //then verify the output
+        Assertions.assertThat(results)
+                .extracting(EmployeeBatchResult::status)
+                .containsExactly(EmployeeBatchResult.Status.CREATED, EmployeeBatchResult.Status.DUPLICATE,
+                        EmployeeBatchResult.Status.DUPLICATE);
+        Mockito.verify(employeeRepository).save(newEmployee);
+    }
+
+    //unit test for saveEmployees method -> email taken concurrently
+    @DisplayName("unit test for saveEmployees method with an email taken concurrently")
+    @Test
+    void givenEmailTakenConcurrently_whenSaveEmployees_thenThrowDuplicateResourceException() {
+        //given - precondition
+        Employee employee = Employee.builder().firstName("John").lastName("Doe").email("john@doe.com").build();
+
+        BDDMockito.willThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, "PUBLIC.UK_EMPLOYEE_EMAIL_INDEX_1")))
+                .given(employeeRepository).flush();
+
+        //when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(DuplicateResourceException.class, () -> {
+            employeeService.saveEmployees(List.of(employee));
+        });
+    }
+
+    //unit test for saveEmployee method -> duplicate served from cache
+    @DisplayName("unit test for saveEmployee method with a cached duplicate email")
+    @Test
+    void givenCachedEmployee_whenSaveEmployee_thenThrowExceptionWithoutQuery() {
+        //given - precondition
+        Employee employee = Employee.builder()
                 .firstName("John")
                 .lastName("Doe")
                 .email("john@doe.com")
                 .build();
-        BDDMockito.given(employeeRepository.findAll()).willReturn(List.of(employee1, employee2));
+
+        BDDMockito.given(employeeCache.getByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+
+        //when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(DuplicateResourceException.class, () -> {
+            employeeService.saveEmployee(employee);
+        });
+
+        //then verify the output
+        Mockito.verify(employeeRepository, Mockito.never()).saveAndFlush(Mockito.any(Employee.class));
+    }
+
+    // unit test for getAllEmployees method
+    @DisplayName("unit test for getAllEmployees method")
+    @Test
+    void givenEmployeesList_whenGetEmployees_thenReturnEmployeesList() {
+        // given - precondition or setup
+        EmployeeSummary employee1 = new EmployeeSummary(1L, "John", "Doe", "john@doe.com");
+
+        EmployeeSummary employee2 = new EmployeeSummary(2L, "John", "Doe", "john2@doe.com");
+        BDDMockito.given(employeeRepository.findAllSummaries()).willReturn(List.of(employee1, employee2));
 
         //when - action or behaviour that we are going to test
-        List<Employee> employeeList = employeeService.getAllEmployees();
+        List<EmployeeSummary> employeeList = employeeService.getAllEmployees();
 
         //then - verify the output
         Assertions.assertThat(employeeList)
@@ -113,10 +247,10 @@ public class EmployeeServiceTests {
     void givenEmptyEmployeesList_whenGetEmployees_thenReturnEmptyEmployeeList() {
         // given - precondition or setup
 
-        BDDMockito.given(employeeRepository.findAll()).willReturn(Collections.emptyList());
+        BDDMockito.given(employeeRepository.findAllSummaries()).willReturn(Collections.emptyList());
 
         //when - action or behaviour that we are going to test
-        List<Employee> employeeList = employeeService.getAllEmployees();
+        List<EmployeeSummary> employeeList = employeeService.getAllEmployees();
 
         //then - verify the output
         Assertions.assertThat(employeeList)
@@ -125,6 +259,64 @@ public class EmployeeServiceTests {
 
     }
 
+    // unit test for getEmployeesAfter method
+    @DisplayName("unit test for getEmployeesAfter method")
+    @Test
+    void givenMoreRowsThanLimit_whenGetEmployeesAfter_thenReturnPageWithNextCursor() {
+        // given - precondition or setup
+        EmployeeSummary employee1 = new EmployeeSummary(5L, "John", "Doe", "john@doe.com");
+        EmployeeSummary employee2 = new EmployeeSummary(6L, "Jane", "Doe", "jane@doe.com");
+        EmployeeSummary employee3 = new EmployeeSummary(7L, "Jim", "Doe", "jim@doe.com");
+
+        BDDMockito.given(employeeRepository.findSummariesByIdGreaterThan(4L, Limit.of(3)))
+                .willReturn(List.of(employee1, employee2, employee3));
+
+        //when - action or behaviour that we are going to test
+        EmployeePage page = employeeService.getEmployeesAfter(4L, 2);
+
+        //then - verify the output
+        Assertions.assertThat(page.content()).containsExactly(employee1, employee2);
+        Assertions.assertThat(page.nextCursor()).isEqualTo(6L);
+    }
+
+    // unit test for getEmployeesAfter method (last page)
+    @DisplayName("unit test for getEmployeesAfter method (last page)")
+    @Test
+    void givenFewerRowsThanLimit_whenGetEmployeesAfter_thenReturnPageWithoutNextCursor() {
+        // given - precondition or setup
+        EmployeeSummary employee = new EmployeeSummary(5L, "John", "Doe", "john@doe.com");
+
+        BDDMockito.given(employeeRepository.findSummariesByIdGreaterThan(4L, Limit.of(3)))
+                .willReturn(List.of(employee));
+
+        //when - action or behaviour that we are going to test
+        EmployeePage page = employeeService.getEmployeesAfter(4L, 2);
+
+        //then - verify the output
+        Assertions.assertThat(page.content()).containsExactly(employee);
+        Assertions.assertThat(page.nextCursor()).isNull();
+    }
+
+    // unit test for exportEmployees method
+    @DisplayName("unit test for exportEmployees method")
+    @Test
+    void givenEmployeesStream_whenExportEmployees_thenConsumeAndDetachEachEmployee() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder().id(1L).firstName("John").lastName("Doe").email("john@doe.com").build();
+        Employee employee2 = Employee.builder().id(2L).firstName("Jane").lastName("Doe").email("jane@doe.com").build();
+
+        BDDMockito.given(employeeRepository.streamAllByOrderByIdAsc()).willReturn(Stream.of(employee1, employee2));
+
+        //when - action or behaviour that we are going to test
+        List<Employee> exported = new ArrayList<>();
+        employeeService.exportEmployees(exported::add);
+
+        //then - verify the output
+        Assertions.assertThat(exported).containsExactly(employee1, employee2);
+        Mockito.verify(entityManager).detach(employee1);
+        Mockito.verify(entityManager).detach(employee2);
+    }
+
     // unit test for getEmployeeById method
     @DisplayName("unit test for getEmployeeById method")
     @Test
@@ -145,6 +337,99 @@ public class EmployeeServiceTests {
                 .isPresent();
     }
 
+    // unit test for getEmployeeById method (cache hit)
+    @DisplayName("unit test for getEmployeeById method (cache hit)")
+    @Test
+    void givenCachedEmployee_whenGetEmployeeById_thenReturnEmployeeWithoutQuery() {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe.com")
+                .build();
+
+        BDDMockito.given(employeeCache.getById(1L)).willReturn(Optional.of(employee));
+        //when - action or behaviour that we are going to test
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(1L);
+        //then - verify the output
+        Assertions.assertThat(cachedEmployee).contains(employee);
+        Mockito.verify(employeeRepository, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    // unit test for getEmployeeById method (cache miss)
+    @DisplayName("unit test for getEmployeeById method (cache miss)")
+    @Test
+    void givenUncachedEmployee_whenGetEmployeeById_thenCacheEmployee() {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe.com")
+                .build();
+
+        BDDMockito.given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        //when - action or behaviour that we are going to test
+        employeeService.getEmployeeById(1L);
+        //then - verify the output
+        Mockito.verify(employeeCache).put(Mockito.eq(employee), Mockito.anyLong());
+    }
+
+    // unit test for getEmployeesByIds method
+    @DisplayName("unit test for getEmployeesByIds method")
+    @Test
+    void givenCachedAndUncachedIds_whenGetEmployeesByIds_thenReturnInRequestOrder() {
+        // given - precondition or setup
+        Employee cached = Employee.builder().id(1L).firstName("John").lastName("Doe").email("john@doe.com").build();
+        Employee loaded = Employee.builder().id(2L).firstName("Jane").lastName("Doe").email("jane@doe.com").build();
+        BDDMockito.given(employeeCache.getById(Mockito.anyLong())).willReturn(Optional.empty());
+        BDDMockito.given(employeeCache.getById(1L)).willReturn(Optional.of(cached));
+        BDDMockito.given(employeeRepository.findAllByIdIn(List.of(3L, 2L))).willReturn(List.of(loaded));
+        //when - action or behaviour that we are going to test
+        List<EmployeeLookupResult> results = employeeService.getEmployeesByIds(List.of(3L, 1L, 2L, 1L));
+        //then - verify the output
+        Assertions.assertThat(results)
+                .extracting(EmployeeLookupResult::id, EmployeeLookupResult::status)
+                .containsExactly(
+                        Assertions.tuple(3L, EmployeeLookupResult.Status.NOT_FOUND),
+                        Assertions.tuple(1L, EmployeeLookupResult.Status.FOUND),
+                        Assertions.tuple(2L, EmployeeLookupResult.Status.FOUND),
+                        Assertions.tuple(1L, EmployeeLookupResult.Status.FOUND));
+        Mockito.verify(employeeRepository, Mockito.times(1)).findAllByIdIn(Mockito.anyCollection());
+        Mockito.verify(employeeCache).put(Mockito.eq(loaded), Mockito.anyLong());
+    }
+
+    // unit test for getEmployeeVersion method (cache miss)
+    @DisplayName("unit test for getEmployeeVersion method (cache miss)")
+    @Test
+    void givenUncachedEmployee_whenGetEmployeeVersion_thenQueryVersionOnly() {
+        // given - precondition or setup
+        BDDMockito.given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(3L));
+        //when - action or behaviour that we are going to test
+        Optional<Long> version = employeeService.getEmployeeVersion(1L);
+        //then - verify the output
+        Assertions.assertThat(version).contains(3L);
+        Mockito.verify(employeeRepository, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    // unit test for searchEmployees method
+    @DisplayName("unit test for searchEmployees method")
+    @Test
+    void givenLastNameAndFirstNamePrefix_whenSearchEmployees_thenUseIndexedPrefixQuery() {
+        // given - precondition or setup
+        EmployeeSummary employee = new EmployeeSummary(1L, "John", "Doe", "john@doe.com");
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("lastName", "firstName", "id"));
+
+        BDDMockito.given(employeeRepository.findSummariesByLastNameAndFirstNameStartingWith("Doe", "Jo", pageable))
+                .willReturn(new SliceImpl<>(List.of(employee), pageable, true));
+        //when - action or behaviour that we are going to test
+        EmployeeSlice slice = employeeService.searchEmployees("Doe", "Jo", true, 0, 20);
+        //then - verify the output
+        Assertions.assertThat(slice.content()).containsExactly(employee);
+        Assertions.assertThat(slice.hasNext()).isTrue();
+    }
+
     // unit test for updateEmployee method
     @DisplayName("unit test for updateEmployee method")
     @Test
@@ -157,7 +442,7 @@ public class EmployeeServiceTests {
                 .email("john@doe.com")
                 .build();
 
-        BDDMockito.given(employeeRepository.save(employee)).willReturn(employee);
+        BDDMockito.given(employeeRepository.saveAndFlush(employee)).willReturn(employee);
         employee.setEmail("ra@gmail.com");
         employee.setFirstName("hehe");
         //when - action or behaviour that we are going to test
@@ -168,6 +453,62 @@ public class EmployeeServiceTests {
         Assertions.assertThat(updatedEmployee).isNotNull();
         Assertions.assertThat(updatedEmployee.getFirstName()).isEqualTo("hehe");
         Assertions.assertThat(updatedEmployee.getEmail()).isEqualTo("ra@gmail.com");
+        Mockito.verify(employeeCache).evict(1L);
+        Mockito.verify(employeeOutbox).updated(employee);
+    }
+
+    //unit test for updateEmployee method -> email taken by another employee
+    @DisplayName("unit test for updateEmployee method with a duplicate email")
+    @Test
+    void givenEmailOfAnotherEmployee_whenUpdateEmployee_thenThrowException() {
+        //given - precondition
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("jane@doe.com")
+                .build();
+
+        BDDMockito.given(employeeRepository.saveAndFlush(employee)).willThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, "PUBLIC.UK_EMPLOYEE_EMAIL_INDEX_1")));
+
+        //when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(DuplicateResourceException.class, () -> {
+            employeeService.updateEmployee(employee);
+        });
+
+        //then verify the output
+        Mockito.verify(employeeOutbox, Mockito.never()).updated(Mockito.any(Employee.class));
+        Mockito.verify(employeeCache, Mockito.never()).evict(Mockito.anyLong());
+    }
+
+    // unit test for patchEmployee method
+    @DisplayName("unit test for patchEmployee method")
+    @Test
+    void givenEmployeePatch_whenPatchEmployee_thenUpdateAndEvict() {
+        // given - precondition or setup
+        BDDMockito.given(employeeRepository.patchById(1L, "hehe", null, null)).willReturn(1);
+        BDDMockito.given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(4L));
+        //when - action or behaviour that we are going to test
+        boolean patched = employeeService.patchEmployee(1L, new EmployeePatch("hehe", null, null));
+        //then - verify the output
+        Assertions.assertThat(patched).isTrue();
+        Mockito.verify(employeeCache).evict(1L);
+        Mockito.verify(employeeSearchIndex).patch(1L, "hehe", null, null);
+        Mockito.verify(employeeOutbox).patched(1L, new EmployeePatch("hehe", null, null), 4L);
+        Mockito.verify(employeeRepository, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    // unit test for patchEmployee method (missing employee)
+    @DisplayName("unit test for patchEmployee method (missing employee)")
+    @Test
+    void givenMissingEmployee_whenPatchEmployee_thenReturnFalse() {
+        // given - precondition or setup
+        BDDMockito.given(employeeRepository.patchById(1L, "hehe", null, null)).willReturn(0);
+        //when - action or behaviour that we are going to test
+        boolean patched = employeeService.patchEmployee(1L, new EmployeePatch("hehe", null, null));
+        //then - verify the output
+        Assertions.assertThat(patched).isFalse();
     }
 
     // unit test for deleteEmployee method
@@ -175,10 +516,60 @@ public class EmployeeServiceTests {
     @Test
     void givenEmployeeId_whenDeleteEmployee_thenNothing() {
         // given - precondition or setup
-        BDDMockito.willDoNothing().given(employeeRepository).deleteById(1L);
+        BDDMockito.given(employeeRepository.deleteEmployeeById(1L)).willReturn(1);
+        //when - action or behaviour that we are going to test
+        boolean deleted = employeeService.deleteEmployee(1L);
+        //then - verify the output
+        Assertions.assertThat(deleted).isTrue();
+        BDDMockito.verify(employeeRepository, Mockito.times(1)).deleteEmployeeById(1L);
+        BDDMockito.verify(employeeRepository, Mockito.never()).findById(1L);
+        Mockito.verify(employeeCache).evict(1L);
+        Mockito.verify(employeeOutbox).deleted(1L);
+    }
+
+    // unit test for deleteEmployee method (missing employee)
+    @DisplayName("unit test for deleteEmployee method (missing employee)")
+    @Test
+    void givenMissingEmployeeId_whenDeleteEmployee_thenReturnFalse() {
+        // given - precondition or setup
+        BDDMockito.given(employeeRepository.deleteEmployeeById(1L)).willReturn(0);
+        //when - action or behaviour that we are going to test
+        boolean deleted = employeeService.deleteEmployee(1L);
+        //then - verify the output
+        Assertions.assertThat(deleted).isFalse();
+        Mockito.verifyNoInteractions(employeeOutbox);
+    }
+
+    // unit test for deleteEmployees method
+    @DisplayName("unit test for deleteEmployees method")
+    @Test
+    void givenManyEmployeeIds_whenDeleteEmployees_thenDeleteInBoundedChunks() {
+        // given - precondition or setup
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        BDDMockito.given(employeeRepository.findExistingIdsForUpdate(Mockito.anyList()))
+                .willAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
+        BDDMockito.given(employeeRepository.deleteEmployeesByIdIn(Mockito.anyList()))
+                .willAnswer(invocationOnMock -> ((List<?>) invocationOnMock.getArgument(0)).size());
+        //when - action or behaviour that we are going to test
+        int deleted = employeeService.deleteEmployees(ids);
+        //then - verify the output
+        Assertions.assertThat(deleted).isEqualTo(2500);
+        Mockito.verify(employeeRepository, Mockito.times(3)).deleteEmployeesByIdIn(Mockito.anyList());
+        Mockito.verify(employeeCache).evict(2500L);
+        Mockito.verify(employeeSearchIndex).remove(2500L);
+        Mockito.verify(employeeOutbox, Mockito.times(2500)).deleted(Mockito.anyLong());
+    }
+
+    // unit test for fuzzySearchEmployees method
+    @DisplayName("unit test for fuzzySearchEmployees method")
+    @Test
+    void givenLargeLimit_whenFuzzySearchEmployees_thenCapLimit() {
+        // given - precondition or setup
+        EmployeeSearchHit hit = new EmployeeSearchHit(1L, "John", "Doe", "john@doe.com", 0.75);
+        BDDMockito.given(employeeSearchIndex.search("jhon", EmployeeServiceImpl.MAX_SEARCH_HITS)).willReturn(List.of(hit));
         //when - action or behaviour that we are going to test
-        employeeService.deleteEmployee(1L);
+        List<EmployeeSearchHit> hits = employeeService.fuzzySearchEmployees("jhon", 10_000);
         //then - verify the output
-        BDDMockito.verify(employeeRepository, Mockito.times(1)).deleteById(1L);
+        Assertions.assertThat(hits).containsExactly(hit);
     }
 }
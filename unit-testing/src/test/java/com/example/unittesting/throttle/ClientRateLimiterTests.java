@@ -0,0 +1,82 @@
+package com.example.unittesting.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ClientRateLimiterTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ClientRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // one request per second, bursts of two
+        rateLimiter = new ClientRateLimiter(1, 2, 100, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    // unit test for exhausting a client's burst
+    @DisplayName("unit test for exhausting a client's burst")
+    @Test
+    void givenBurstUsed_whenTryAcquire_thenReturnWaitUntilRefill() {
+        // given - precondition or setup
+        long now = 0;
+        rateLimiter.tryAcquire("ip:10.0.0.1", now);
+        rateLimiter.tryAcquire("ip:10.0.0.1", now);
+
+        //when - action or behaviour that we are going to test
+        long wait = rateLimiter.tryAcquire("ip:10.0.0.1", now);
+        long waitOtherClient = rateLimiter.tryAcquire("ip:10.0.0.2", now);
+        long waitAfterRefill = rateLimiter.tryAcquire("ip:10.0.0.1", now + SECOND);
+
+        //then - verify the output
+        Assertions.assertThat(wait).isEqualTo(SECOND);
+        Assertions.assertThat(waitOtherClient).isZero();
+        Assertions.assertThat(waitAfterRefill).isZero();
+        Assertions.assertThat(meterRegistry.get("employee.throttle.rate-limited").functionCounter().count()).isEqualTo(1);
+    }
+
+    // unit test for concurrent acquires on one bucket
+    @DisplayName("unit test for concurrent acquires on one bucket")
+    @Test
+    void givenConcurrentClients_whenTryAcquire_thenAdmitExactlyBurst() throws Exception {
+        // given - precondition or setup
+        ClientRateLimiter slowLimiter = new ClientRateLimiter(0.001, 50, 100, Duration.ofMinutes(1), meterRegistry);
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when - action or behaviour that we are going to test
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 100; j++) {
+                    if (slowLimiter.tryAcquire("key:shared", 0) == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then - verify the output
+        Assertions.assertThat(admitted).hasValue(50);
+    }
+}
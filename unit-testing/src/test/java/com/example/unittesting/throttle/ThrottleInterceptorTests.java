@@ -0,0 +1,135 @@
+package com.example.unittesting.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+class ThrottleInterceptorTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ThrottleInterceptor interceptor;
+
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new ThrottleInterceptor(
+                new ClientRateLimiter(1, 1, 100, Duration.ofMinutes(1), meterRegistry),
+                new EndpointBulkheads(10, Map.of("Handlers#getAllEmployees", 1), meterRegistry),
+                "X-API-Key", Set.of("alice", "bob", "carol"));
+        handler = new HandlerMethod(new Handlers(), "getAllEmployees");
+    }
+
+    // unit test for a client over its rate limit
+    @DisplayName("unit test for a client over its rate limit")
+    @Test
+    void givenClientOverLimit_whenPreHandle_thenReturnTooManyRequests() {
+        // given - precondition or setup
+        MockHttpServletRequest first = request("alice");
+        admit(first);
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when - action or behaviour that we are going to test
+        boolean admitted = interceptor.preHandle(request("alice"), response, handler);
+        boolean otherClientAdmitted = interceptor.preHandle(request("bob"), new MockHttpServletResponse(), handler);
+
+        //then - verify the output
+        Assertions.assertThat(admitted).isFalse();
+        Assertions.assertThat(response.getStatus()).isEqualTo(429);
+        Assertions.assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        Assertions.assertThat(otherClientAdmitted).isTrue();
+    }
+
+    // unit test for api keys that are not configured
+    @DisplayName("unit test for api keys that are not configured")
+    @Test
+    void givenUnknownApiKeys_whenPreHandle_thenLimitByRemoteAddress() {
+        // given - precondition or setup
+        MockHttpServletRequest first = request("mallory-1");
+        admit(first);
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when - action or behaviour that we are going to test
+        boolean admitted = interceptor.preHandle(request("mallory-2"), response, handler);
+
+        //then - verify the output
+        Assertions.assertThat(admitted).isFalse();
+        Assertions.assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    // unit test for a full bulkhead
+    @DisplayName("unit test for a full bulkhead")
+    @Test
+    void givenFullBulkhead_whenPreHandle_thenReturnServiceUnavailableUntilReleased() {
+        // given - precondition or setup
+        MockHttpServletRequest running = request("alice");
+        admit(running);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when - action or behaviour that we are going to test
+        boolean admitted = interceptor.preHandle(request("bob"), response, handler);
+        interceptor.afterCompletion(running, new MockHttpServletResponse(), handler, null);
+        boolean admittedAfterRelease = interceptor.preHandle(request("carol"), new MockHttpServletResponse(), handler);
+
+        //then - verify the output
+        Assertions.assertThat(admitted).isFalse();
+        Assertions.assertThat(response.getStatus()).isEqualTo(503);
+        Assertions.assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo(ThrottleInterceptor.BULKHEAD_RETRY_AFTER_SECONDS);
+        Assertions.assertThat(admittedAfterRelease).isTrue();
+        Assertions.assertThat(meterRegistry.get("employee.throttle.bulkhead.rejected")
+                .tag("endpoint", "Handlers#getAllEmployees").functionCounter().count()).isEqualTo(1);
+    }
+
+    // unit test for same-named handler methods of different controllers
+    @DisplayName("unit test for same-named handler methods of different controllers")
+    @Test
+    void givenSameMethodNameInOtherController_whenPreHandle_thenUseSeparateBulkhead() throws NoSuchMethodException {
+        // given - precondition or setup
+        admit(request("alice"));
+        HandlerMethod otherHandler = new HandlerMethod(new OtherHandlers(), "getAllEmployees");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when - action or behaviour that we are going to test
+        boolean admitted = interceptor.preHandle(request("bob"), response, otherHandler);
+
+        //then - verify the output
+        Assertions.assertThat(admitted).isTrue();
+        Assertions.assertThat(ThrottleInterceptor.endpoint(otherHandler)).isEqualTo("OtherHandlers#getAllEmployees");
+    }
+
+    private void admit(MockHttpServletRequest request) {
+        Assertions.assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler)).isTrue();
+    }
+
+    private static MockHttpServletRequest request(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+
+    static class Handlers {
+
+        public void getAllEmployees() {
+        }
+    }
+
+    static class OtherHandlers {
+
+        public void getAllEmployees() {
+        }
+    }
+}